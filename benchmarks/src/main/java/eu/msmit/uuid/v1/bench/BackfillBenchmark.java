@@ -0,0 +1,84 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.bench;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eu.msmit.uuid.v1.BackfillGenerator;
+
+/**
+ * Batch throughput of the {@link BackfillGenerator}, for sorted and unsorted
+ * input times spread over a day.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BackfillBenchmark {
+	private static final int BATCH = 1 << 16;
+
+	@Param({ "true", "false" })
+	public boolean sorted;
+
+	private BackfillGenerator generator_;
+	private long[] millis_;
+	private long[] msb_ = new long[BATCH];
+	private long[] lsb_ = new long[BATCH];
+
+	@Setup
+	public void setUp() {
+		// A new generator per iteration would measure the table growth, reuse
+		// one over a day of input.
+		generator_ = new BackfillGenerator();
+		Random random = new Random(1);
+		long start = 1000000000000L;
+
+		millis_ = new long[BATCH];
+		for (int i = 0; i < BATCH; i++) {
+			millis_[i] = start + random.nextInt(86400000);
+		}
+		if (sorted) {
+			Arrays.sort(millis_);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public long[] batch() {
+		generator_.next(millis_, 0, msb_, lsb_, 0, BATCH);
+		return msb_;
+	}
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks for every thread count from 1 up to the number of
+ * available processors (doubling), with the allocation profiler enabled. Any
+ * argument is passed on to JMH, for example a benchmark include pattern or
+ * <code>-p generator=parallel</code>.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmd = new CommandLineOptions(args);
+
+		for (int threads : threadCounts(Runtime.getRuntime().availableProcessors())) {
+			ChainedOptionsBuilder options = new OptionsBuilder() //
+					.parent(cmd) //
+					.threads(threads) //
+					.addProfiler(GCProfiler.class);
+
+			if (cmd.getIncludes().isEmpty()) {
+				options.include(GeneratorBenchmark.class.getSimpleName());
+			}
+
+			new Runner(options.build()).run();
+		}
+	}
+
+	/**
+	 * @return 1, 2, 4 ... up to and including the given core count
+	 */
+	static List<Integer> threadCounts(int cores) {
+		List<Integer> counts = new ArrayList<>();
+		for (int t = 1; t < cores; t <<= 1) {
+			counts.add(t);
+		}
+		counts.add(cores);
+		return counts;
+	}
+}
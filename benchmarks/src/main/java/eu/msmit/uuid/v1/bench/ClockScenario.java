@@ -0,0 +1,103 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.bench;
+
+/**
+ * Timelines of the wall clock, as seen by a {@link ScriptedClock}. Every
+ * scenario repeats its event once per period, so a run of any length sees it
+ * several times.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public enum ClockScenario {
+
+	/** The clock follows real time **/
+	STEADY(1000, 0) {
+		@Override
+		long millis(long elapsed) {
+			return elapsed;
+		}
+	},
+
+	/** NTP steps the clock a second back every 2 seconds **/
+	NTP_STEP_BACK(2000, 1000) {
+		@Override
+		long millis(long elapsed) {
+			return elapsed - elapsed / period_ * amount_;
+		}
+	},
+
+	/**
+	 * The clock runs slow to absorb a leap second, a millisecond lasts twice
+	 * as long once every 100 ms. A real smear of a second over a day is 864
+	 * times slower.
+	 */
+	LEAP_SMEAR(100, 1) {
+		@Override
+		long millis(long elapsed) {
+			return elapsed - elapsed / period_ * amount_;
+		}
+	},
+
+	/**
+	 * The JVM stops for 200 ms every second, the clock has moved on when it
+	 * resumes
+	 */
+	VM_PAUSE(1000, 200) {
+		@Override
+		long millis(long elapsed) {
+			return elapsed;
+		}
+
+		@Override
+		boolean pauses() {
+			return true;
+		}
+	},
+
+	/** The clock stands still for 200 ms every second, then jumps ahead **/
+	FROZEN(1000, 200) {
+		@Override
+		long millis(long elapsed) {
+			long frozen = elapsed % period_ - (period_ - amount_);
+			return frozen > 0 ? elapsed - frozen : elapsed;
+		}
+	};
+
+	final long period_;
+	final long amount_;
+
+	private ClockScenario(long period, long amount) {
+		period_ = period;
+		amount_ = amount;
+	}
+
+	/**
+	 * @param elapsed
+	 *            the real milliseconds since the start
+	 * @return the milliseconds since the start the clock shows
+	 */
+	abstract long millis(long elapsed);
+
+	/**
+	 * @return true when the reader of the clock stalls for the amount once
+	 *         every period
+	 */
+	boolean pauses() {
+		return false;
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.bench;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eu.msmit.uuid.v1.Generator;
+
+/**
+ * Single call throughput and sampled latency of {@link Generator#next()}. The
+ * generator is shared by all benchmark threads, so running with
+ * <code>-t</code> shows how a generator behaves under contention.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class GeneratorBenchmark {
+
+	@Param({ Generators.RANDOM, "default", "hlc", "parallel", "partitioned", "adaptive", "ksorted", //
+			"monitored-default", "monitored-parallel", "prefetch-parallel", "server-client", //
+			"type3-default", "type3-parallel", "type5-default", "type5-parallel" })
+	public String generator;
+
+	private Generator generator_;
+
+	@Setup
+	public void setUp() {
+		generator_ = Generators.create(generator);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public UUID next() {
+		return generator_.next();
+	}
+}
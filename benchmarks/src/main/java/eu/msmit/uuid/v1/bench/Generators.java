@@ -0,0 +1,174 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.bench;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.Random;
+import java.util.UUID;
+
+import eu.msmit.uuid.v1.AdaptiveGenerator;
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.DuplicateMonitor;
+import eu.msmit.uuid.v1.Generator;
+import eu.msmit.uuid.v1.GeneratorMetrics;
+import eu.msmit.uuid.v1.HybridClockGenerator;
+import eu.msmit.uuid.v1.KSortedGenerator;
+import eu.msmit.uuid.v1.Node;
+import eu.msmit.uuid.v1.ParallelGenerator;
+import eu.msmit.uuid.v1.PartitionedGenerator;
+import eu.msmit.uuid.v1.PrefetchingGenerator;
+import eu.msmit.uuid.v1.Type3Wrapper;
+import eu.msmit.uuid.v1.Type5Wrapper;
+import eu.msmit.uuid.v1.Type7Generator;
+import eu.msmit.uuid.v1.server.IdClient;
+import eu.msmit.uuid.v1.server.IdServer;
+
+/**
+ * Creates the generators under benchmark by name, so they can be used as a
+ * JMH parameter.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public final class Generators {
+
+	/** The {@link UUID#randomUUID()} baseline **/
+	public static final String RANDOM = "random";
+
+	/** The generators that can run on a given clock **/
+	public static final String[] CLOCKED = { "default", "hlc", "parallel", "partitioned", "adaptive", "ksorted",
+			"type7" };
+
+	private Generators() {
+	}
+
+	/**
+	 * @param name
+	 *            the name of the generator, for example 'type3-parallel'
+	 * @return a new generator
+	 */
+	public static Generator create(String name) {
+		switch (name) {
+		case RANDOM:
+			return new Generator() {
+				@Override
+				public UUID next() {
+					return UUID.randomUUID();
+				}
+			};
+		case "default":
+			return new DefaultGenerator();
+		case "parallel":
+			return new ParallelGenerator();
+		case "adaptive":
+			return new AdaptiveGenerator();
+		case "hlc":
+			return new HybridClockGenerator();
+		case "ksorted":
+			return new KSortedGenerator();
+		case "partitioned":
+			return new PartitionedGenerator();
+		case "monitored-default":
+			return monitor(1.0 / 64).wrap(new DefaultGenerator());
+		case "monitored-parallel":
+			return monitor(1.0 / 64).wrap(new ParallelGenerator());
+		case "server-client":
+			return client();
+		case "prefetch-parallel":
+			return new PrefetchingGenerator(new ParallelGenerator());
+		case "type3-default":
+			return new Type3Wrapper().wrap(new DefaultGenerator());
+		case "type3-parallel":
+			return new Type3Wrapper().wrap(new ParallelGenerator());
+		case "type5-default":
+			return new Type5Wrapper().wrap(new DefaultGenerator());
+		case "type5-parallel":
+			return new Type5Wrapper().wrap(new ParallelGenerator());
+		default:
+			throw new IllegalArgumentException("Unknown generator " + name);
+		}
+	}
+
+	/**
+	 * @param name
+	 *            the name of the generator, one of {@link #CLOCKED}
+	 * @param clock
+	 *            the wall clock of the generator
+	 * @param metrics
+	 *            the metrics to count in, not used by ksorted
+	 * @return a new generator
+	 */
+	public static Generator create(String name, Clock clock, GeneratorMetrics metrics) {
+		Random random = new Random();
+
+		switch (name) {
+		case "default":
+			DefaultGenerator generator = new DefaultGenerator(new Node(), clock, random);
+			generator.setMetrics(metrics);
+			return generator;
+		case "hlc":
+			HybridClockGenerator hlc = new HybridClockGenerator(new Node(), clock, random);
+			hlc.setMetrics(metrics);
+			return hlc;
+		case "parallel":
+			ParallelGenerator parallel = new ParallelGenerator(4, () -> new DefaultGenerator(new Node(), clock, random));
+			parallel.setMetrics(metrics);
+			return parallel;
+		case "partitioned":
+			PartitionedGenerator partitioned = new PartitionedGenerator(new Node(),
+					Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1), clock, random);
+			partitioned.setMetrics(metrics);
+			return partitioned;
+		case "adaptive":
+			AdaptiveGenerator adaptive = new AdaptiveGenerator(new Node(), Runtime.getRuntime().availableProcessors(),
+					false, clock, random);
+			adaptive.setMetrics(metrics);
+			return adaptive;
+		case "ksorted":
+			return new KSortedGenerator(new Node(), 1, 64) {
+				@Override
+				protected long currentTimeMs() {
+					return clock.millis();
+				}
+			};
+		case "type7":
+			Type7Generator type7 = new Type7Generator(clock, random);
+			type7.setMetrics(metrics);
+			return type7;
+		default:
+			throw new IllegalArgumentException("Unknown generator " + name);
+		}
+	}
+
+	private static DuplicateMonitor monitor(double sampleRate) {
+		return new DuplicateMonitor(sampleRate, 1 << 20, 60000, new DuplicateMonitor.Listener() {
+		});
+	}
+
+	/**
+	 * A client of a server in this process, over loopback. The server runs
+	 * until the JVM exits.
+	 */
+	private static Generator client() {
+		try {
+			return new IdClient(new IdServer().getAddress());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.bench;
+
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.UUIDPublisher;
+
+/**
+ * Throughput of the {@link UUIDPublisher} compared to bulk generation of the
+ * same number of UUID objects. The subscriber requests all UUIDs up front
+ * ("bulk" demand) or one at a time from onNext ("single" demand).
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublisherBenchmark {
+	private static final int COUNT = 1 << 14;
+
+	@Param({ "bulk", "single" })
+	public String demand;
+
+	private DefaultGenerator generator_;
+	private UUIDPublisher publisher_;
+	private long[] msb_ = new long[UUIDPublisher.DEFAULT_BATCH];
+	private long[] lsb_ = new long[UUIDPublisher.DEFAULT_BATCH];
+
+	@Setup
+	public void setUp() {
+		generator_ = new DefaultGenerator();
+		publisher_ = new UUIDPublisher(generator_);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public void bulk(Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i += msb_.length) {
+			generator_.next(msb_, lsb_, 0, msb_.length);
+			for (int j = 0; j < msb_.length; j++) {
+				blackhole.consume(new UUID(msb_[j], lsb_[j]));
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public void publisher(Blackhole blackhole) {
+		boolean single = demand.equals("single");
+
+		publisher_.subscribe(new Flow.Subscriber<UUID>() {
+			private Flow.Subscription subscription_;
+			private int received_;
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				subscription_ = subscription;
+				subscription.request(single ? 1 : COUNT);
+			}
+
+			@Override
+			public void onNext(UUID item) {
+				blackhole.consume(item);
+				if (++received_ == COUNT) {
+					subscription_.cancel();
+				} else if (single) {
+					subscription_.request(1);
+				}
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				throw new IllegalStateException(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+			}
+		});
+	}
+}
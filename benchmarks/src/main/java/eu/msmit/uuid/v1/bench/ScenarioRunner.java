@@ -0,0 +1,195 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.bench;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import eu.msmit.uuid.v1.Generator;
+import eu.msmit.uuid.v1.GeneratorMetrics;
+import eu.msmit.uuid.v1.UUIDBits;
+
+/**
+ * Runs every generator that accepts a clock through every
+ * {@link ClockScenario}, and reports per run:
+ * <ul>
+ * <li>the UUIDs per second over all threads</li>
+ * <li>the 50th, 99th and 99.9th percentile and the maximum latency of a
+ * call</li>
+ * <li>the clock sequences consumed, and the time spent waiting for the clock
+ * to move, from {@link GeneratorMetrics}</li>
+ * <li>the maximum lead of the timestamps over the clock, for generators that
+ * hold their timestamps monotonic</li>
+ * </ul>
+ * 
+ * Arguments are the seconds per run (default 5), the number of threads
+ * (default the available processors), and optionally the generators to run.
+ * Every run is preceded by a warm up of a second on a steady clock.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class ScenarioRunner {
+
+	public static void main(String[] args) throws Exception {
+		long seconds = args.length > 0 ? Long.parseLong(args[0]) : 5;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		List<String> generators = Arrays.asList(
+				args.length > 2 ? Arrays.copyOfRange(args, 2, args.length) : Generators.CLOCKED);
+
+		System.out.printf("%-14s %-12s %12s %9s %9s %9s %9s %10s %9s %9s%n", "scenario", "generator", "uuids/s",
+				"p50 us", "p99 us", "p99.9 us", "max ms", "clock seqs", "spin ms", "lead ms");
+
+		for (ClockScenario scenario : ClockScenario.values()) {
+			for (String name : generators) {
+				run(name, new ScriptedClock(ClockScenario.STEADY), threads, TimeUnit.SECONDS.toMillis(1));
+
+				GeneratorMetrics metrics = new GeneratorMetrics();
+				Result result = run(name, new ScriptedClock(scenario), metrics, threads,
+						TimeUnit.SECONDS.toMillis(seconds));
+
+				System.out.printf("%-14s %-12s %,12d %9.1f %9.1f %9.1f %9.1f %,10d %,9d %9.1f%n", scenario, name,
+						result.count_ * 1000 / result.millis_, result.latency_.percentile(0.5) / 1e3,
+						result.latency_.percentile(0.99) / 1e3, result.latency_.percentile(0.999) / 1e3,
+						result.latency_.max() / 1e6, metrics.getClockSequenceIncrements(),
+						TimeUnit.NANOSECONDS.toMillis(metrics.getSpinWaitNanos()),
+						metrics.getMaxLogicalLead() / (double) UUIDBits.TICKS_PER_MS);
+			}
+		}
+	}
+
+	private static Result run(String name, ScriptedClock clock, int threads, long millis) throws Exception {
+		return run(name, clock, new GeneratorMetrics(), threads, millis);
+	}
+
+	/**
+	 * Call the generator from all threads until the time is up
+	 */
+	private static Result run(String name, ScriptedClock clock, GeneratorMetrics metrics, int threads, long millis)
+			throws Exception {
+		Generator generator = Generators.create(name, clock, metrics);
+		Worker[] workers = new Worker[threads];
+
+		long start = System.nanoTime();
+		for (int t = 0; t < threads; t++) {
+			workers[t] = new Worker(generator, start + TimeUnit.MILLISECONDS.toNanos(millis));
+			workers[t].start();
+		}
+
+		Result result = new Result();
+		for (Worker worker : workers) {
+			worker.join();
+			result.count_ += worker.count_;
+			result.latency_.add(worker.latency_);
+		}
+		result.millis_ = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return result;
+	}
+
+	private static final class Result {
+		private final Histogram latency_ = new Histogram();
+		private long count_;
+		private long millis_;
+	}
+
+	private static final class Worker extends Thread {
+		private final Generator generator_;
+		private final long end_;
+		private final Histogram latency_ = new Histogram();
+		private long count_;
+
+		Worker(Generator generator, long end) {
+			generator_ = generator;
+			end_ = end;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			long now = System.nanoTime();
+			while (now < end_) {
+				generator_.next();
+				long done = System.nanoTime();
+				latency_.record(done - now);
+				count_++;
+				now = done;
+			}
+		}
+	}
+
+	/**
+	 * Counts values in buckets of 1/16 of a power of two, so a percentile is
+	 * within about 6% of the exact value
+	 */
+	static final class Histogram {
+		private static final int SUB_BITS = 4;
+
+		private final long[] counts_ = new long[64 << SUB_BITS];
+		private long total_;
+		private long max_;
+
+		void record(long value) {
+			counts_[bucket(Math.max(0, value))]++;
+			total_++;
+			max_ = Math.max(max_, value);
+		}
+
+		void add(Histogram other) {
+			for (int i = 0; i < counts_.length; i++) {
+				counts_[i] += other.counts_[i];
+			}
+			total_ += other.total_;
+			max_ = Math.max(max_, other.max_);
+		}
+
+		/**
+		 * @return the upper bound of the bucket holding the percentile
+		 */
+		long percentile(double fraction) {
+			long rank = (long) Math.ceil(total_ * fraction);
+			long seen = 0;
+			for (int i = 0; i < counts_.length; i++) {
+				seen += counts_[i];
+				if (seen >= rank && seen > 0) {
+					return Math.min(upper(i), max_);
+				}
+			}
+			return max_;
+		}
+
+		long max() {
+			return max_;
+		}
+
+		private static int bucket(long value) {
+			if (value < (1 << SUB_BITS)) {
+				return (int) value;
+			}
+			int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+			return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) & ((1 << SUB_BITS) - 1));
+		}
+
+		private static long upper(int bucket) {
+			if (bucket < (1 << SUB_BITS)) {
+				return bucket;
+			}
+			int shift = (bucket >>> SUB_BITS) - 1;
+			long sub = (bucket & ((1 << SUB_BITS) - 1)) | (1 << SUB_BITS);
+			return ((sub + 1) << shift) - 1;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.bench;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A wall clock that follows a {@link ClockScenario} from the moment it is
+ * created. Real time is taken from {@link System#nanoTime()}, so the scenario
+ * is the only source of steps.
+ * 
+ * For a pausing scenario, the first thread reading the clock after a pause is
+ * due sleeps for the pause. Generators read the clock while holding their
+ * lock, so other threads of that generator stall as well.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class ScriptedClock extends Clock {
+
+	private final ClockScenario scenario_;
+	private final long start_;
+	private final long startNanos_;
+	private final AtomicLong nextPause_;
+
+	/**
+	 * @param scenario
+	 *            the timeline to follow
+	 */
+	public ScriptedClock(ClockScenario scenario) {
+		scenario_ = scenario;
+		start_ = System.currentTimeMillis();
+		startNanos_ = System.nanoTime();
+		nextPause_ = new AtomicLong(scenario.period_);
+	}
+
+	@Override
+	public long millis() {
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos_);
+
+		if (scenario_.pauses()) {
+			long due = nextPause_.get();
+			if (elapsed >= due && nextPause_.compareAndSet(due, due + scenario_.period_)) {
+				try {
+					Thread.sleep(scenario_.amount_);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos_);
+			}
+		}
+
+		return start_ + scenario_.millis(elapsed);
+	}
+
+	@Override
+	public Instant instant() {
+		return Instant.ofEpochMilli(millis());
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZoneOffset.UTC;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * @return the scenario of this clock
+	 */
+	public ClockScenario getScenario() {
+		return scenario_;
+	}
+}
@@ -0,0 +1,252 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.time.Clock;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Grows its number of lanes when it detects contention, in the way a
+ * {@link java.util.concurrent.atomic.LongAdder} expands its cells. It starts
+ * as a single {@link DefaultGenerator}. A thread that finds its lane locked by
+ * another thread moves to another lane, and when this happens often, the
+ * number of lanes doubles, up to the first power of two of the available
+ * processors. Optionally the lanes halve again after a second without
+ * contention.
+ * 
+ * All lanes share one node and use disjoint clock sequence partitions, like
+ * the {@link PartitionedGenerator}. A lane is never discarded, when lanes
+ * grow again after shrinking, the same lanes are used.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class AdaptiveGenerator implements Generator {
+
+	/** Grow up to a lane per available processor **/
+	static final int DEFAULT_LANES = Runtime.getRuntime().availableProcessors();
+
+	/** Grow after this many contentions per active lane **/
+	private static final int GROW_THRESHOLD = 8;
+
+	/** Shrink after an interval without contention **/
+	private static final long SHRINK_INTERVAL_MS = 1000L;
+
+	/** Check if shrinking is due once in this many calls per thread **/
+	private static final int SHRINK_CHECK_MASK = 0x3FF;
+
+	/** Per thread lane probe and call counter **/
+	private static final ThreadLocal<int[]> PROBE = new ThreadLocal<int[]>() {
+		@Override
+		protected int[] initialValue() {
+			return new int[] { ThreadLocalRandom.current().nextInt() | 1, 0 };
+		}
+	};
+
+	private final Node node_;
+	private final Clock clock_;
+	private final Random random_;
+	private final DefaultGenerator[] lanes_;
+	private final boolean shrink_;
+	private final AtomicBoolean resizing_ = new AtomicBoolean();
+	private final LongAdder contentions_ = new LongAdder();
+	private volatile int active_ = 1;
+	private volatile long contentionsAtResize_;
+	private volatile long resizedAt_;
+	private GeneratorMetrics metrics_;
+
+	/**
+	 * Create a generator growing up to the number of available processors,
+	 * without shrinking
+	 */
+	public AdaptiveGenerator() {
+		this(new Node(), DEFAULT_LANES, false);
+	}
+
+	/**
+	 * @param node
+	 *            the node of all lanes
+	 * @param maxLanes
+	 *            the maximum number of lanes, rounded up to a power of two
+	 * @param shrink
+	 *            halve the lanes after an interval without contention
+	 */
+	public AdaptiveGenerator(Node node, int maxLanes, boolean shrink) {
+		this(node, maxLanes, shrink, Clock.systemUTC(), DefaultGenerator.RANDOM);
+	}
+
+	/**
+	 * Create a generator whose lanes have their own time and randomness source
+	 * 
+	 * @see #AdaptiveGenerator(Node, int, boolean)
+	 * @see DefaultGenerator#DefaultGenerator(Node, Clock, Random)
+	 */
+	public AdaptiveGenerator(Node node, int maxLanes, boolean shrink, Clock clock, Random random) {
+		if (maxLanes <= 0 || maxLanes > 1024) {
+			throw new IllegalArgumentException("Lanes must be between 1 and 1024");
+		}
+
+		node_ = node;
+		clock_ = clock;
+		random_ = random;
+		lanes_ = new DefaultGenerator[Integer.highestOneBit(maxLanes * 2 - 1)];
+		lanes_[0] = new DefaultGenerator(node, 0, lanes_.length, clock, random);
+		shrink_ = shrink;
+		resizedAt_ = System.currentTimeMillis();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next()
+	 */
+	@Override
+	public UUID next() {
+		int[] probe = PROBE.get();
+		int active = active_;
+
+		UUID uuid = lanes_[probe[0] & (active - 1)].tryNext();
+		if (uuid != null) {
+			if (shrink_ && (++probe[1] & SHRINK_CHECK_MASK) == 0) {
+				shrinkIfIdle(active);
+			}
+			return uuid;
+		}
+
+		contended(probe, active);
+		return lanes_[probe[0] & (active_ - 1)].next();
+	}
+
+	/**
+	 * The batch is generated by the lane of the current thread, waiting for it
+	 * when contended.
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next(long[], long[], int, int)
+	 */
+	@Override
+	public void next(long[] msb, long[] lsb, int offset, int length) {
+		lanes_[PROBE.get()[0] & (active_ - 1)].next(msb, lsb, offset, length);
+	}
+
+	/**
+	 * Count the contention, move the thread to another lane and grow when
+	 * threads collide often.
+	 */
+	private void contended(int[] probe, int active) {
+		contentions_.increment();
+
+		// Xorshift to another lane
+		int p = probe[0];
+		p ^= p << 13;
+		p ^= p >>> 17;
+		p ^= p << 5;
+		probe[0] = p;
+
+		if (active < lanes_.length && contentions_.sum() - contentionsAtResize_ >= active * GROW_THRESHOLD) {
+			resize(active, active << 1);
+		}
+	}
+
+	private void shrinkIfIdle(int active) {
+		if (active > 1 && System.currentTimeMillis() - resizedAt_ >= SHRINK_INTERVAL_MS) {
+			if (contentions_.sum() == contentionsAtResize_) {
+				resize(active, active >>> 1);
+			} else {
+				// Contended, start a new interval
+				if (resizing_.compareAndSet(false, true)) {
+					try {
+						contentionsAtResize_ = contentions_.sum();
+						resizedAt_ = System.currentTimeMillis();
+					} finally {
+						resizing_.set(false);
+					}
+				}
+			}
+		}
+	}
+
+	private void resize(int from, int to) {
+		if (!resizing_.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			if (active_ != from) {
+				return;
+			}
+
+			// Create missing lanes before publishing them through active_
+			for (int l = from; l < to; l++) {
+				if (lanes_[l] == null) {
+					lanes_[l] = new DefaultGenerator(node_, l, lanes_.length, clock_, random_);
+					lanes_[l].setMetrics(metrics_);
+				}
+			}
+
+			contentionsAtResize_ = contentions_.sum();
+			resizedAt_ = System.currentTimeMillis();
+			active_ = to;
+		} finally {
+			resizing_.set(false);
+		}
+	}
+
+	/**
+	 * Attach metrics to all lanes, including lanes created later
+	 * 
+	 * @param metrics
+	 *            the metrics to count in, or null to disable
+	 */
+	public void setMetrics(GeneratorMetrics metrics) {
+		while (!resizing_.compareAndSet(false, true)) {
+			Thread.yield();
+		}
+		try {
+			metrics_ = metrics;
+			for (DefaultGenerator lane : lanes_) {
+				if (lane != null) {
+					lane.setMetrics(metrics);
+				}
+			}
+		} finally {
+			resizing_.set(false);
+		}
+	}
+
+	/**
+	 * @return the number of lanes in use
+	 */
+	public int getLanes() {
+		return active_;
+	}
+
+	/**
+	 * @return the maximum number of lanes
+	 */
+	public int getMaxLanes() {
+		return lanes_.length;
+	}
+
+	/**
+	 * @return the number of times a thread found its lane locked
+	 */
+	public long getContentions() {
+		return contentions_.sum();
+	}
+}
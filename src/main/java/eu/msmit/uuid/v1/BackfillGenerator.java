@@ -0,0 +1,197 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates unique version 1 UUIDs for given historical times, for example
+ * to assign UUIDs to migrated records that encode their original creation
+ * time.
+ * 
+ * The ticks used per millisecond are counted, a millisecond gets its ticks in
+ * order. When all 10000 ticks of a millisecond are used, the next UUIDs of it
+ * move to the next clock sequence, so one millisecond can hold 10000 * 16384
+ * UUIDs. Input can be in any order, sorted input is fastest.
+ * 
+ * Uniqueness holds for all UUIDs of one instance. Use a node that is not used
+ * by live generators, the default constructor creates a new one.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class BackfillGenerator {
+	private static final int TICKS = (int) UUIDBits.TICKS_PER_MS;
+	private static final int CLOCK_SEQUENCES = UUIDBits.MAX_CLOCK_SEQUENCE + 1;
+
+	/** The first millisecond of the UUID epoch, 15-oct-1582 **/
+	private static final long MIN_MILLIS = -UUIDBits.UUID_EPOCH_TO_UTC_EPOCH_MS;
+
+	/** The last millisecond whose ticks all fit in the 60 bit timestamp **/
+	private static final long MAX_MILLIS = (1L << 60) / UUIDBits.TICKS_PER_MS - 1 + MIN_MILLIS;
+
+	private final ReentrantLock lock_ = new ReentrantLock();
+	private final long node_;
+	private final int clock_;
+	private final TickCounter counter_ = new TickCounter(1 << 16);
+
+	public BackfillGenerator() {
+		this(new Node());
+	}
+
+	public BackfillGenerator(Node node) {
+		node_ = node.getValue();
+		clock_ = new SecureRandom().nextInt() & UUIDBits.MAX_CLOCK_SEQUENCE;
+	}
+
+	/**
+	 * @param millis
+	 *            milliseconds since 1-jan-1970
+	 * @return a new UUID with a timestamp in the given millisecond
+	 * @throws IllegalArgumentException
+	 *             when the millisecond is outside the UUID timestamp range,
+	 *             15-oct-1582 to the year 5236
+	 * @throws IllegalStateException
+	 *             when the millisecond has no UUIDs left
+	 */
+	public UUID next(long millis) {
+		check(millis);
+		long msb;
+		long lsb;
+
+		lock_.lock();
+		try {
+			int used = counter_.getAndIncrement(millis);
+			msb = msb(millis, used);
+			lsb = lsb(millis, used);
+		} finally {
+			lock_.unlock();
+		}
+
+		return new UUID(msb, lsb);
+	}
+
+	/**
+	 * @param instant
+	 *            the time, only milliseconds are used
+	 * @return a new UUID with a timestamp in the millisecond of the instant
+	 */
+	public UUID next(Instant instant) {
+		return next(instant.toEpochMilli());
+	}
+
+	/**
+	 * Generate UUIDs for a batch of times, holding the lock once
+	 * 
+	 * @param millis
+	 *            milliseconds since 1-jan-1970
+	 * @param from
+	 *            the first index in millis
+	 * @param msb
+	 *            receives the most significant bits
+	 * @param lsb
+	 *            receives the least significant bits
+	 * @param offset
+	 *            the first index to fill
+	 * @param length
+	 *            the number of UUIDs
+	 */
+	public void next(long[] millis, int from, long[] msb, long[] lsb, int offset, int length) {
+		if (from < 0 || offset < 0 || length < 0 || from + length > millis.length || offset + length > msb.length
+				|| offset + length > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		for (int i = 0; i < length; i++) {
+			check(millis[from + i]);
+		}
+
+		lock_.lock();
+		try {
+			for (int i = 0; i < length; i++) {
+				long ms = millis[from + i];
+				int used = counter_.getAndIncrement(ms);
+				msb[offset + i] = msb(ms, used);
+				lsb[offset + i] = lsb(ms, used);
+			}
+		} finally {
+			lock_.unlock();
+		}
+	}
+
+	/**
+	 * @param millis
+	 *            milliseconds since 1-jan-1970
+	 * @return a UUID per millisecond, in the same order
+	 */
+	public UUID[] next(long[] millis) {
+		UUID[] uuids = new UUID[millis.length];
+		long[] msb = new long[Math.min(millis.length, 1024)];
+		long[] lsb = new long[msb.length];
+
+		for (int i = 0; i < millis.length; i += msb.length) {
+			int length = Math.min(msb.length, millis.length - i);
+			next(millis, i, msb, lsb, 0, length);
+			for (int j = 0; j < length; j++) {
+				uuids[i + j] = new UUID(msb[j], lsb[j]);
+			}
+		}
+		return uuids;
+	}
+
+	/**
+	 * @param millis
+	 *            milliseconds since 1-jan-1970
+	 * @return a stream with a UUID per millisecond, in the same order
+	 */
+	public Stream<UUID> next(LongStream millis) {
+		return millis.mapToObj(this::next);
+	}
+
+	/**
+	 * @return the number of distinct milliseconds seen
+	 */
+	public int getMilliseconds() {
+		lock_.lock();
+		try {
+			return counter_.size();
+		} finally {
+			lock_.unlock();
+		}
+	}
+
+	private static void check(long millis) {
+		if (millis < MIN_MILLIS || millis > MAX_MILLIS) {
+			throw new IllegalArgumentException("Outside the UUID timestamp range: " + millis);
+		}
+	}
+
+	private static long msb(long millis, int used) {
+		return UUIDBits.msb(UUIDBits.ticks(millis) + used % TICKS);
+	}
+
+	private long lsb(long millis, int used) {
+		int sequence = used / TICKS;
+		if (used < 0 || sequence >= CLOCK_SEQUENCES) {
+			throw new IllegalStateException("No UUIDs left for " + Instant.ofEpochMilli(millis));
+		}
+		return UUIDBits.lsb(clock_ + sequence, node_);
+	}
+}
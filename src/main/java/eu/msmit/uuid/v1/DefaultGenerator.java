@@ -16,8 +16,10 @@
 package eu.msmit.uuid.v1;
 
 import java.security.SecureRandom;
+import java.time.Clock;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * The base {@link UUID} generator implementation.
@@ -30,121 +32,253 @@ public class DefaultGenerator implements Generator {
 	/**
 	 * For clock sequence and -don't care- bits
 	 */
-	private static final Random RANDOM = new SecureRandom();
+	static final Random RANDOM = new SecureRandom();
 
 	/**
-	 * The maximum clock sequence
-	 */
-	private static final long MAX_CLOCK_SEQUENCE = 0x3FFFL;
-
-	/**
-	 * System.longTimeMillis() returns time from january 1st 1970. UUID time
-	 * starts with Gregorian calendar (15-oct-1582).
-	 */
-	private static long UUID_EPOCH_TO_UTC_EPOCH_MS = 0xB1D069B5400L;
-
-	/**
-	 * Maximum ticks per millisecond interval (1 millisecond = 1 000 000
-	 * nanoseconds) / 100
+	 * Maximum size of the gap is ms
 	 */
-	private static long INTERVALS_PER_MS = 10000L;
+	private static final int MAX_GAP_SIZE = 50;
 
 	/**
-	 * Maximum size of the gap is ms
+	 * Guards the state below. Not a monitor, so virtual threads waiting for it
+	 * do not pin their carrier thread.
 	 */
-	private static final int MAX_GAP_SIZE = 50;
+	private final ReentrantLock lock_ = new ReentrantLock();
 
 	private final long node_;
+	private final Clock time_;
+	private final Random random_;
+	private final int clockBase_;
+	private final int clockRange_;
 	private long tsnow_;
 	private long tsoff_;
-	private UUID prevUUID_;
+	private long timestamp_;
+	private int clock_;
+	private boolean seeded_;
+	private GeneratorMetrics metrics_;
 
 	public DefaultGenerator() {
 		this(new Node());
 	}
 
 	public DefaultGenerator(Node node) {
+		this(node, 0, 1);
+	}
+
+	/**
+	 * Create a generator that only uses a part of the clock sequence space.
+	 * Generators of the same node with different partitions never create the
+	 * same UUID, even for the same timestamp.
+	 * 
+	 * @param node
+	 *            the node
+	 * @param partition
+	 *            the partition of this generator, from zero
+	 * @param partitions
+	 *            the number of partitions, a power of two up to the number of
+	 *            clock sequences
+	 */
+	public DefaultGenerator(Node node, int partition, int partitions) {
+		this(node, partition, partitions, Clock.systemUTC(), RANDOM);
+	}
+
+	/**
+	 * Create a generator with its own time and randomness source
+	 * 
+	 * @param node
+	 *            the node
+	 * @param clock
+	 *            the wall clock, only its milliseconds are used
+	 * @param random
+	 *            the source of clock sequences and timestamp gaps, shared with
+	 *            other generators it must be thread safe
+	 */
+	public DefaultGenerator(Node node, Clock clock, Random random) {
+		this(node, 0, 1, clock, random);
+	}
+
+	/**
+	 * Create a partitioned generator with its own time and randomness source
+	 * 
+	 * @see #DefaultGenerator(Node, int, int)
+	 * @see #DefaultGenerator(Node, Clock, Random)
+	 */
+	public DefaultGenerator(Node node, int partition, int partitions, Clock clock, Random random) {
+		if (partitions <= 0 || partitions > UUIDBits.MAX_CLOCK_SEQUENCE + 1 || Integer.bitCount(partitions) != 1) {
+			throw new IllegalArgumentException("Partitions must be a power of two up to the clock sequence");
+		}
+		if (partition < 0 || partition >= partitions) {
+			throw new IllegalArgumentException("Partition out of range");
+		}
+
 		node_ = node.getValue();
+		time_ = clock;
+		random_ = random;
+		clockRange_ = (UUIDBits.MAX_CLOCK_SEQUENCE + 1) / partitions;
+		clockBase_ = partition * clockRange_;
 		tsnow_ = currentTimeMs();
 	}
 
+	/**
+	 * Attach metrics to this generator
+	 * 
+	 * @param metrics
+	 *            the metrics to count in, or null to disable
+	 */
+	public void setMetrics(GeneratorMetrics metrics) {
+		lock_.lock();
+		try {
+			metrics_ = metrics;
+		} finally {
+			lock_.unlock();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see eu.msmit.uuid.v1.Generator#next()
 	 */
 	public UUID next() {
-		synchronized (this) {
-			UUID current = prevUUID_;
+		if (Events.isSlowNextEnabled()) {
+			long start = System.nanoTime();
 			try {
-				long timestamp = nextTimestamp();
-
-				if (current == null || current.node() != node_) {
-					current = newUUID(timestamp);
-				} else {
-					if (current.timestamp() >= timestamp) {
-						current = incrementClockSequence(current, timestamp);
-					} else {
-						current = incrementTime(current, timestamp);
-					}
-				}
-
-				return current;
+				return nextUUID();
 			} finally {
-				prevUUID_ = current;
+				Events.slowNext(this, start);
 			}
 		}
+		return nextUUID();
 	}
 
 	/**
-	 * @return the next random clock sequence
+	 * Like {@link #next()}, but gives up when another thread holds the lock.
+	 * 
+	 * @return the next UUID, or null when contended
 	 */
-	private int randomClock() {
-		return RANDOM.nextInt();
+	UUID tryNext() {
+		long timestamp;
+		int clock;
+
+		if (!lock_.tryLock()) {
+			return null;
+		}
+		try {
+			timestamp = advance();
+			clock = clock_;
+		} finally {
+			lock_.unlock();
+		}
+
+		return createUUID(timestamp, node_, clock);
+	}
+
+	private UUID nextUUID() {
+		long timestamp;
+		int clock;
+
+		lock_.lock();
+		try {
+			timestamp = advance();
+			clock = clock_;
+		} finally {
+			lock_.unlock();
+		}
+
+		return createUUID(timestamp, node_, clock);
 	}
 
 	/**
-	 * Increment the clock sequence, setting the given new timestamp.
+	 * Generates all UUIDs while holding the lock once, the timestamps of the
+	 * batch are reserved at once.
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next(long[], long[], int, int)
 	 */
-	private UUID incrementClockSequence(UUID current, long timestamp) {
-		return createUUID(timestamp, node_, current.clockSequence() + 1);
+	@Override
+	public void next(long[] msb, long[] lsb, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > msb.length || offset + length > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		lock_.lock();
+		try {
+			for (int i = offset; i < offset + length; i++) {
+				long timestamp = advance();
+				msb[i] = msb(timestamp, node_, clock_);
+				lsb[i] = lsb(timestamp, node_, clock_);
+			}
+		} finally {
+			lock_.unlock();
+		}
 	}
 
 	/**
-	 * Create a new UUID with time incremented.
+	 * Move to the next timestamp, and increment the clock sequence when time
+	 * did not move forward. Must be called while holding the lock.
 	 * 
-	 * @throws IllegalArgumentException
-	 *             when timestamp is eq or less than timestamp in UUID
+	 * @return the new timestamp, the clock sequence is in {@link #clock_}
 	 */
-	private UUID incrementTime(UUID current, long timestamp) {
-		if (current.timestamp() >= timestamp) {
-			throw new IllegalArgumentException("Timestamp was not incremented");
+	private long advance() {
+		long timestamp = nextTimestamp();
+
+		if (!seeded_) {
+			clock_ = clockBase_ + (randomClock() & (clockRange_ - 1));
+			seeded_ = true;
+			Events.clockSequence(-1, clock_);
+		} else if (timestamp_ >= timestamp) {
+			int previous = clock_;
+			clock_ = clockBase_ + ((clock_ + 1) & (clockRange_ - 1));
+
+			if (metrics_ != null) {
+				metrics_.clockSequenceIncremented();
+			}
+			Events.clockSequence(previous, clock_);
+		}
+
+		if (metrics_ != null) {
+			metrics_.issued();
 		}
 
-		return createUUID(timestamp, node_, current.clockSequence());
+		timestamp_ = timestamp;
+		return timestamp;
 	}
 
 	/**
-	 * Create a new UUID with a random clock seq.
+	 * @return the attached metrics, or null. Only call while holding the lock,
+	 *         as from {@link #nextTimestamp()}
 	 */
-	private UUID newUUID(long timestamp) {
-		return createUUID(timestamp, node_, randomClock());
+	protected GeneratorMetrics getMetrics() {
+		return metrics_;
+	}
+
+	/**
+	 * @return the next random clock sequence
+	 */
+	private int randomClock() {
+		return random_.nextInt();
 	}
 
 	/**
 	 * Create a new UUID from the given (valid) components.
 	 */
 	protected UUID createUUID(long timestamp, long node, int clock) {
-		long timeLow = timestamp & 0xFFFFFFFFL;
-		long timeMid = timestamp >>> 32 & 0xFFFFL;
-		long timeHiAndVer = (timestamp >>> 48 & 0xFFFL) | 0x1000L;
-		long msb = (timeLow << 32) | (timeMid << 16) | (timeHiAndVer);
+		return new UUID(msb(timestamp, node, clock), lsb(timestamp, node, clock));
+	}
 
-		long lsb = 0x8000000000000000L;
-		lsb |= (clock & MAX_CLOCK_SEQUENCE) << 48;
-		lsb |= node & 0xFFFFFFFFFFFFL;
+	/**
+	 * @return the most significant bits of a UUID with the given (valid)
+	 *         components, for {@link #createUUID(long, long, int)} and batches
+	 */
+	protected long msb(long timestamp, long node, int clock) {
+		return UUIDBits.msb(timestamp);
+	}
 
-		return new UUID(msb, lsb);
+	/**
+	 * @return the least significant bits of a UUID with the given (valid)
+	 *         components, for {@link #createUUID(long, long, int)} and batches
+	 */
+	protected long lsb(long timestamp, long node, int clock) {
+		return UUIDBits.lsb(clock, node);
 	}
 
 	/**
@@ -170,19 +304,27 @@ public class DefaultGenerator implements Generator {
 		// Create a new gap. The gap size of the system's time resolution.
 		// https://randomascii.wordpress.com/2013/07/08/windows-timer-resolution-megawatts-wasted/
 		if (now > tsnow_) {
-			long gap = Math.min(now - tsnow_, MAX_GAP_SIZE) * INTERVALS_PER_MS;
-			tsoff_ = RANDOM.nextInt((int) gap);
+			long gap = Math.min(now - tsnow_, MAX_GAP_SIZE) * UUIDBits.TICKS_PER_MS;
+			tsoff_ = random_.nextInt((int) gap);
 			tsnow_ = now;
+
+			if (metrics_ != null) {
+				metrics_.gap();
+			}
 		}
 
 		// Time moved backwards, that is time skewing
 		else if (now < tsnow_) {
+			Events.clockSkew(tsnow_, now);
 			tsnow_ = now;
+
+			if (metrics_ != null) {
+				metrics_.backwardSkew();
+			}
 		}
 
 		// Set time as current time millis plus offset times 100 ns ticks
-		long currentTime = (UUID_EPOCH_TO_UTC_EPOCH_MS + tsnow_)
-				* INTERVALS_PER_MS;
+		long currentTime = UUIDBits.ticks(tsnow_);
 
 		// Return the uuid time minus the artifical tick decremented
 		return (currentTime - tsoff_--);
@@ -190,22 +332,28 @@ public class DefaultGenerator implements Generator {
 
 	/** Override for testing **/
 	protected long currentTimeMs() {
-		return System.currentTimeMillis();
+		return time_.millis();
 	}
 
 	/**
-	 * Waits for next timestamp, when pounding against {@link #INTERVALS_PER_MS}
+	 * Waits for next timestamp, when pounding against {@link UUIDBits#TICKS_PER_MS}
 	 * 
 	 * @return a timestamp neq to timestamp, could be less in case of time skew
 	 */
 	private long awaitNextTimestamp(final long timestamp) {
 		long now;
+		long start = System.nanoTime();
 
-		while ((now = currentTimeMs()) == timestamp
-				&& !Thread.currentThread().isInterrupted()) {
-			Thread.yield();
+		for (int spins = 0; (now = currentTimeMs()) == timestamp
+				&& !Thread.currentThread().isInterrupted(); spins++) {
+			Platform.onSpinWait(spins);
 		}
 
+		long wait = System.nanoTime() - start;
+		if (metrics_ != null) {
+			metrics_.spinWait(wait);
+		}
+		Events.tickExhausted(timestamp, wait);
 		return now;
 	}
 }
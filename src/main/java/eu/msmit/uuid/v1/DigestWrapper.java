@@ -16,8 +16,6 @@
 package eu.msmit.uuid.v1;
 
 import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.UUID;
 
 /**
@@ -31,23 +29,26 @@ abstract class DigestWrapper {
 	/** UUIDv1 to wrapper namespace **/
 	protected static final UUID NAMESPACE = UUID.fromString("df3deac8-092e-527c-8b1b-2d46f52ff852");
 
-	/** The digester **/
-	protected final ThreadLocal<MessageDigest> DIGEST = new ThreadLocal<MessageDigest>() {
+	/**
+	 * Receives a single version 1 UUID from a generator
+	 */
+	private static final class Bits {
+		final long[] msb_ = new long[1];
+		final long[] lsb_ = new long[1];
+	}
 
+	private static final ThreadLocal<Bits> BITS = new ThreadLocal<Bits>() {
 		@Override
-		protected MessageDigest initialValue() {
-			try {
-				return MessageDigest.getInstance(getDigest());
-			} catch (NoSuchAlgorithmException e) {
-				throw new InternalError(getDigest() + " not supported", e);
-			}
+		protected Bits initialValue() {
+			return new Bits();
 		}
 	};
 
-	private final byte version_;
+	/** Hashes with reused per thread buffers **/
+	private final NameBasedGenerator digest_;
 
 	protected DigestWrapper() {
-		version_ = getVersion();
+		digest_ = new NameBasedGenerator(NAMESPACE, getDigest(), getVersion() >> 4);
 	}
 
 	/**
@@ -92,19 +93,33 @@ abstract class DigestWrapper {
 		if (uuidv1.version() != 1) {
 			throw new IllegalArgumentException("The given UUID is not a version 1 UUID");
 		}
+		return digest_.generate(uuidv1.getMostSignificantBits(), uuidv1.getLeastSignificantBits());
+	}
 
-		byte[] bytes = toBytes(uuidv1);
-		MessageDigest md = DIGEST.get();
-
-		byte[] sha1Bytes = md.digest(bytes);
-		sha1Bytes[6] &= 0x0f; /* clear version */
-		sha1Bytes[6] |= version_; /* set to version of #getVersion() */
-		sha1Bytes[8] &= 0x3f; /* clear variant */
-		sha1Bytes[8] |= 0x80; /* set to IETF variant */
-
-		ByteBuffer buf = ByteBuffer.wrap(sha1Bytes);
+	/**
+	 * Wrap the next UUID of the generator, taken as primitives so only the
+	 * wrapped UUID is allocated
+	 */
+	protected final UUID wrapNext(Generator generator) {
+		Bits bits = BITS.get();
+		generator.next(bits.msb_, bits.lsb_, 0, 1);
+		if (UUIDBits.version(bits.msb_[0]) != 1) {
+			throw new IllegalArgumentException("The given UUID is not a version 1 UUID");
+		}
+		return digest_.generate(bits.msb_[0], bits.lsb_[0]);
+	}
 
-		return new UUID(buf.getLong(), buf.getLong());
+	/**
+	 * Wrap the next UUIDs of the generator in place
+	 */
+	protected final void wrapNext(Generator generator, long[] msb, long[] lsb, int offset, int length) {
+		generator.next(msb, lsb, offset, length);
+		for (int i = offset; i < offset + length; i++) {
+			if (UUIDBits.version(msb[i]) != 1) {
+				throw new IllegalArgumentException("The given UUID is not a version 1 UUID");
+			}
+		}
+		digest_.generateInPlace(msb, lsb, offset, length);
 	}
 
 	/**
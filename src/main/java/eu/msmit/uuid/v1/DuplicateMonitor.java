@@ -0,0 +1,496 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Samples issued UUIDs into a concurrent Bloom filter to detect duplicates in
+ * production, for example two JVMs that derived the same {@link Node}.
+ * 
+ * Sampling is decided by a hash of the UUID, so every process samples the
+ * same UUIDs. Issued UUIDs are added to the filter, a sampled UUID that is
+ * already present is reported as a suspected duplicate. UUIDs received from
+ * other processes can be passed to {@link #observe(UUID)}; when they carry a
+ * node this process issues from, a node collision is reported.
+ * 
+ * The filter is split in blocks of one cache line, a UUID only touches one
+ * block. It covers two time windows, the current one and the previous, and
+ * drops the oldest window when the current one expires. After an idle gap of
+ * more than a window, the previous window is dropped as well. A dropped window
+ * is left alone for a rotation, so threads that still hold it are done with
+ * it. It is then cleared on the {@link ForkJoinPool#commonPool()} and kept as
+ * a spare, so rotating does not allocate or clear on the caller. The monitor
+ * holds up to four windows.
+ * 
+ * The filter is sized for about one false positive in 150000 sampled UUIDs
+ * when the expected number of UUIDs is not exceeded.
+ * 
+ * A UUID that is not sampled costs one hash. A sampled UUID touches one
+ * cache line, its cost is measured in {@link #getSampleNanos()}.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class DuplicateMonitor implements DuplicateMonitorMBean {
+
+	/**
+	 * Receives the findings of a monitor. Callbacks run on the thread that
+	 * issued or observed the UUID.
+	 */
+	public interface Listener {
+
+		/**
+		 * @param uuid
+		 *            a UUID that was probably seen before
+		 */
+		default void duplicate(UUID uuid) {
+		}
+
+		/**
+		 * @param node
+		 *            the node
+		 * @param uuid
+		 *            a foreign UUID with a node this process issues from
+		 */
+		default void nodeCollision(long node, UUID uuid) {
+		}
+	}
+
+	/** Bits per block, one cache line **/
+	private static final int BLOCK_BITS = 512;
+	private static final int BLOCK_WORDS = BLOCK_BITS / 64;
+
+	/** Bits set per UUID **/
+	private static final int HASHES = 12;
+
+	/** Bit positions taken from one 64 bit mix **/
+	private static final int HASHES_PER_MIX = 7;
+
+	/** Bits per expected UUID **/
+	private static final int BITS_PER_ENTRY = 32;
+
+	/** Maximum number of local nodes remembered **/
+	private static final int MAX_NODES = 1024;
+
+	private static final int SAMPLE_BITS = 24;
+
+	private final int threshold_;
+	private final int blockMask_;
+	private final long windowMs_;
+	private final Listener listener_;
+
+	/** {current, previous}, previous is null after an idle gap **/
+	private final AtomicReference<Window[]> windows_;
+
+	/** A cleared window for the next rotation, null while being cleared **/
+	private final AtomicReference<Window> spare_;
+
+	/** The window dropped at the last rotation, guarded by rotating_ **/
+	private Window dropped_;
+	private final AtomicBoolean rotating_ = new AtomicBoolean();
+	private volatile long[] nodes_ = new long[0];
+
+	private final LongAdder sampled_ = new LongAdder();
+	private final LongAdder sampleNanos_ = new LongAdder();
+	private final LongAdder duplicates_ = new LongAdder();
+	private final LongAdder nodeCollisions_ = new LongAdder();
+	private final LongAdder rotations_ = new LongAdder();
+	private ObjectName name_;
+
+	/**
+	 * The filter of one time window
+	 */
+	private static final class Window {
+		/** Set before the window is published **/
+		long start_;
+		final AtomicLongArray bits_;
+
+		Window(long start, int blocks) {
+			start_ = start;
+			bits_ = new AtomicLongArray(blocks * BLOCK_WORDS);
+		}
+
+		void clear() {
+			for (int i = 0; i < bits_.length(); i++) {
+				bits_.lazySet(i, 0);
+			}
+		}
+	}
+
+	/**
+	 * @param sampleRate
+	 *            the fraction of UUIDs to sample, in (0, 1]
+	 * @param expected
+	 *            the number of sampled UUIDs expected per window
+	 * @param windowMs
+	 *            the length of a window
+	 * @param listener
+	 *            receives the findings
+	 */
+	public DuplicateMonitor(double sampleRate, int expected, long windowMs, Listener listener) {
+		if (!(sampleRate > 0 && sampleRate <= 1)) {
+			throw new IllegalArgumentException("Sample rate must be in (0, 1]");
+		}
+		if (expected < 1 || windowMs < 1) {
+			throw new IllegalArgumentException("Expected and window must be positive");
+		}
+
+		long bits = (long) expected * BITS_PER_ENTRY;
+		int blocks = Integer.highestOneBit((int) Math.min(1 << 24, Math.max(1, bits / BLOCK_BITS)) * 2 - 1);
+
+		threshold_ = (int) Math.ceil(sampleRate * (1 << SAMPLE_BITS));
+		blockMask_ = blocks - 1;
+		windowMs_ = windowMs;
+		listener_ = listener;
+
+		long now = currentTimeMs();
+		windows_ = new AtomicReference<>(new Window[] { new Window(now, blocks), new Window(now, blocks) });
+		spare_ = new AtomicReference<>(new Window(now, blocks));
+	}
+
+	/**
+	 * Wrap a generator so the UUIDs it issues are monitored
+	 */
+	public Generator wrap(final Generator generator) {
+		return new Generator() {
+			@Override
+			public UUID next() {
+				UUID uuid = generator.next();
+				issued(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), uuid);
+				return uuid;
+			}
+
+			@Override
+			public void next(long[] msb, long[] lsb, int offset, int length) {
+				generator.next(msb, lsb, offset, length);
+				for (int i = offset; i < offset + length; i++) {
+					issued(msb[i], lsb[i], null);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Record a UUID issued by this process
+	 */
+	public void issued(UUID uuid) {
+		issued(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), uuid);
+	}
+
+	private void issued(long msb, long lsb, UUID uuid) {
+		long hash = hash(msb, lsb);
+		if ((int) (hash >>> (64 - SAMPLE_BITS)) >= threshold_) {
+			return;
+		}
+
+		long start = System.nanoTime();
+		sampled_.increment();
+
+		if (UUIDBits.version(msb) == 1) {
+			localNode(UUIDBits.node(lsb));
+		}
+		if (add(hash)) {
+			duplicates_.increment();
+			listener_.duplicate(uuid != null ? uuid : new UUID(msb, lsb));
+		}
+
+		sampleNanos_.add(System.nanoTime() - start);
+	}
+
+	/**
+	 * Check a UUID issued by another process against the UUIDs issued here
+	 */
+	public void observe(UUID uuid) {
+		long msb = uuid.getMostSignificantBits();
+		long lsb = uuid.getLeastSignificantBits();
+		long hash = hash(msb, lsb);
+		if (UUIDBits.version(msb) != 1 || (int) (hash >>> (64 - SAMPLE_BITS)) >= threshold_) {
+			return;
+		}
+
+		long start = System.nanoTime();
+		sampled_.increment();
+
+		// Only a UUID with a local node can be a true duplicate
+		long node = UUIDBits.node(lsb);
+		if (isLocalNode(node)) {
+			nodeCollisions_.increment();
+			listener_.nodeCollision(node, uuid);
+
+			if (contains(hash)) {
+				duplicates_.increment();
+				listener_.duplicate(uuid);
+			}
+		}
+
+		sampleNanos_.add(System.nanoTime() - start);
+	}
+
+	/**
+	 * @return true when the node was seen in a sampled issued UUID
+	 */
+	public boolean isLocalNode(long node) {
+		for (long local : nodes_) {
+			if (local == node) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void localNode(long node) {
+		if (isLocalNode(node)) {
+			return;
+		}
+		synchronized (this) {
+			long[] nodes = nodes_;
+			if (nodes.length < MAX_NODES && !isLocalNode(node)) {
+				nodes = Arrays.copyOf(nodes, nodes.length + 1);
+				nodes[nodes.length - 1] = node;
+				nodes_ = nodes;
+			}
+		}
+	}
+
+	/**
+	 * Add the hash to the current window
+	 * 
+	 * @return true when it was present in any window
+	 */
+	private boolean add(long hash) {
+		Window[] windows = rotate();
+		if (windows[1] != null && contains(windows[1], hash)) {
+			set(windows[0], hash);
+			return true;
+		}
+		return set(windows[0], hash);
+	}
+
+	private boolean contains(long hash) {
+		Window[] windows = rotate();
+		return contains(windows[0], hash) || windows[1] != null && contains(windows[1], hash);
+	}
+
+	/**
+	 * Start a new window when the current one expired. Only one thread
+	 * rotates, the others keep using the expired window meanwhile.
+	 */
+	private Window[] rotate() {
+		Window[] windows = windows_.get();
+		long now = currentTimeMs();
+		if (now - windows[0].start_ < windowMs_ || !rotating_.compareAndSet(false, true)) {
+			return windows;
+		}
+
+		try {
+			windows = windows_.get();
+			if (now - windows[0].start_ < windowMs_) {
+				return windows;
+			}
+
+			Window current = spare_.getAndSet(null);
+			if (current == null) {
+				// The spare is still being cleared
+				current = new Window(now, blockMask_ + 1);
+			}
+			current.start_ = now;
+
+			// Threads may still write the current window after an idle gap,
+			// so a dropped window is only recycled at the next rotation
+			Window[] next;
+			Window dropped;
+			if (now - windows[0].start_ >= 2 * windowMs_) {
+				next = new Window[] { current, null };
+				dropped = windows[0];
+			} else {
+				next = new Window[] { current, windows[0] };
+				dropped = windows[1];
+			}
+			windows_.set(next);
+			recycle(dropped_);
+			dropped_ = dropped;
+			rotations_.increment();
+			return next;
+		} finally {
+			rotating_.set(false);
+		}
+	}
+
+	/**
+	 * Clear a window dropped a rotation ago to become the next spare, or
+	 * allocate one when none was dropped
+	 */
+	private void recycle(final Window window) {
+		final int blocks = blockMask_ + 1;
+		ForkJoinPool.commonPool().execute(new Runnable() {
+			@Override
+			public void run() {
+				Window spare = window;
+				if (spare != null) {
+					spare.clear();
+				} else {
+					spare = new Window(0, blocks);
+				}
+				spare_.set(spare);
+			}
+		});
+	}
+
+	/**
+	 * @return true when all bits were set already
+	 */
+	private boolean set(Window window, long hash) {
+		AtomicLongArray bits = window.bits_;
+		int base = (int) (hash & blockMask_) * BLOCK_WORDS;
+		long positions = mix(hash);
+		boolean present = true;
+
+		for (int h = 0; h < HASHES; h++, positions >>>= 9) {
+			if (h == HASHES_PER_MIX) {
+				positions = mix(hash + 0x9E3779B97F4A7C15L);
+			}
+			int bit = (int) (positions & (BLOCK_BITS - 1));
+			int word = base + (bit >>> 6);
+			long mask = 1L << bit;
+
+			long value = bits.get(word);
+			while ((value & mask) == 0) {
+				present = false;
+				if (bits.compareAndSet(word, value, value | mask)) {
+					break;
+				}
+				value = bits.get(word);
+			}
+		}
+		return present;
+	}
+
+	private boolean contains(Window window, long hash) {
+		AtomicLongArray bits = window.bits_;
+		int base = (int) (hash & blockMask_) * BLOCK_WORDS;
+		long positions = mix(hash);
+
+		for (int h = 0; h < HASHES; h++, positions >>>= 9) {
+			if (h == HASHES_PER_MIX) {
+				positions = mix(hash + 0x9E3779B97F4A7C15L);
+			}
+			int bit = (int) (positions & (BLOCK_BITS - 1));
+			if ((bits.get(base + (bit >>> 6)) & 1L << bit) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long hash(long msb, long lsb) {
+		return mix(msb * 0x9E3779B97F4A7C15L ^ lsb);
+	}
+
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	protected long currentTimeMs() {
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * Register this instance with the platform MBean server
+	 * 
+	 * @param name
+	 *            the name of the monitor, unique within the JVM
+	 * @return the name it was registered with
+	 * @throws JMException
+	 *             when the registration failed, for example when the name is
+	 *             already taken
+	 */
+	public synchronized ObjectName register(String name) throws JMException {
+		if (name_ != null) {
+			throw new IllegalStateException("Already registered as " + name_);
+		}
+		ObjectName objectName = new ObjectName(
+				GeneratorMetrics.DOMAIN + ":type=DuplicateMonitor,name=" + ObjectName.quote(name));
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+		name_ = objectName;
+		return objectName;
+	}
+
+	/**
+	 * Remove this instance from the platform MBean server, if registered
+	 */
+	public synchronized void unregister() throws JMException {
+		if (name_ != null) {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (server.isRegistered(name_)) {
+				server.unregisterMBean(name_);
+			}
+			name_ = null;
+		}
+	}
+
+	@Override
+	public long getSampled() {
+		return sampled_.sum();
+	}
+
+	@Override
+	public long getSampleNanos() {
+		return sampleNanos_.sum();
+	}
+
+	@Override
+	public long getSuspectedDuplicates() {
+		return duplicates_.sum();
+	}
+
+	@Override
+	public long getNodeCollisions() {
+		return nodeCollisions_.sum();
+	}
+
+	@Override
+	public long getRotations() {
+		return rotations_.sum();
+	}
+
+	@Override
+	public double getSampleRate() {
+		return (double) threshold_ / (1 << SAMPLE_BITS);
+	}
+
+	@Override
+	public void reset() {
+		sampled_.reset();
+		sampleNanos_.reset();
+		duplicates_.reset();
+		nodeCollisions_.reset();
+		rotations_.reset();
+	}
+}
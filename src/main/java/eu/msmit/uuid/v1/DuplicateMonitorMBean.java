@@ -0,0 +1,61 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+/**
+ * JMX view on a {@link DuplicateMonitor}.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public interface DuplicateMonitorMBean {
+
+	/**
+	 * @return the number of sampled UUIDs, issued and observed
+	 */
+	long getSampled();
+
+	/**
+	 * @return the total time spent checking sampled UUIDs
+	 */
+	long getSampleNanos();
+
+	/**
+	 * @return the number of suspected duplicates, this includes false
+	 *         positives of the filter
+	 */
+	long getSuspectedDuplicates();
+
+	/**
+	 * @return the number of observed foreign UUIDs carrying a local node
+	 */
+	long getNodeCollisions();
+
+	/**
+	 * @return the number of times the filter moved to a new time window
+	 */
+	long getRotations();
+
+	/**
+	 * @return the fraction of UUIDs that is sampled
+	 */
+	double getSampleRate();
+
+	/**
+	 * Reset all counters to zero
+	 */
+	void reset();
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+/**
+ * Emits the Flight Recorder events of this library, see {@link JfrEvents}.
+ * All events are disabled by default, enable them in a recording with for
+ * example <code>jfr configure +eu.msmit.uuid.v1.ClockSkew#enabled=true</code>
+ * or a custom <code>.jfc</code> file.
+ * 
+ * On a JVM without Flight Recorder every method is a no-op, the events are
+ * then never loaded.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class Events {
+
+	/** True when the jdk.jfr API is present **/
+	private static final boolean AVAILABLE = isAvailable();
+
+	/**
+	 * Calls to {@link Generator#next()} taking longer than this are recorded,
+	 * in nanoseconds
+	 */
+	static final long SLOW_NEXT_THRESHOLD = Long.getLong("eu.msmit.uuid.v1.jfr.slowNextNanos", 1000000L);
+
+	private Events() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, Events.class.getClassLoader());
+			return true;
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+
+	/**
+	 * @return true when slow calls to next should be timed
+	 */
+	static boolean isSlowNextEnabled() {
+		return AVAILABLE && JfrEvents.isSlowNextEnabled();
+	}
+
+	/**
+	 * Record a call to next, when it exceeded {@link #SLOW_NEXT_THRESHOLD}
+	 * 
+	 * @param generator
+	 *            the generator
+	 * @param start
+	 *            the {@link System#nanoTime()} at the start of the call
+	 */
+	static void slowNext(Generator generator, long start) {
+		long duration = System.nanoTime() - start;
+		if (duration >= SLOW_NEXT_THRESHOLD) {
+			JfrEvents.slowNext(generator, duration);
+		}
+	}
+
+	/**
+	 * Record the clock moving backwards
+	 * 
+	 * @param previous
+	 *            the previous time in ms
+	 * @param now
+	 *            the current time in ms
+	 */
+	static void clockSkew(long previous, long now) {
+		if (AVAILABLE) {
+			JfrEvents.clockSkew(previous, now);
+		}
+	}
+
+	/**
+	 * Record a wait for the next millisecond, after all ticks were used
+	 * 
+	 * @param millis
+	 *            the exhausted millisecond
+	 * @param waitNanos
+	 *            the time waited
+	 */
+	static void tickExhausted(long millis, long waitNanos) {
+		if (AVAILABLE) {
+			JfrEvents.tickExhausted(millis, waitNanos);
+		}
+	}
+
+	/**
+	 * Record a new clock sequence
+	 * 
+	 * @param previous
+	 *            the previous clock sequence, or -1 when randomly seeded
+	 * @param next
+	 *            the new clock sequence
+	 */
+	static void clockSequence(int previous, int next) {
+		if (AVAILABLE) {
+			JfrEvents.clockSequence(previous, next);
+		}
+	}
+}
@@ -16,6 +16,8 @@
 package eu.msmit.uuid.v1;
 
 import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Marijn Smit (info@msmit.eu)
@@ -28,4 +30,57 @@ public interface Generator {
 	 */
 	UUID next();
 
+	/**
+	 * Generate UUIDs into the given arrays, as primitive most and least
+	 * significant bits. Implementations may reserve the timestamps for the
+	 * whole batch at once.
+	 * 
+	 * @param msb
+	 *            receives the most significant bits
+	 * @param lsb
+	 *            receives the least significant bits
+	 * @param offset
+	 *            the first index to fill
+	 * @param length
+	 *            the number of UUIDs to generate
+	 */
+	default void next(long[] msb, long[] lsb, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > msb.length || offset + length > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		for (int i = offset; i < offset + length; i++) {
+			UUID next = next();
+			msb[i] = next.getMostSignificantBits();
+			lsb[i] = next.getLeastSignificantBits();
+		}
+	}
+
+	/**
+	 * @param size
+	 *            the number of UUIDs to generate
+	 * @return a sized spliterator over new UUIDs
+	 */
+	default GeneratorSpliterator spliterator(long size) {
+		return new GeneratorSpliterator(this, size);
+	}
+
+	/**
+	 * @param size
+	 *            the number of UUIDs to generate
+	 * @return a sequential stream of new UUIDs
+	 */
+	default Stream<UUID> stream(long size) {
+		return StreamSupport.stream(spliterator(size), false);
+	}
+
+	/**
+	 * @param size
+	 *            the number of UUIDs to generate
+	 * @return a parallel stream of new UUIDs
+	 */
+	default Stream<UUID> parallelStream(long size) {
+		return StreamSupport.stream(spliterator(size), true);
+	}
+
 }
@@ -0,0 +1,242 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.Random;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+/**
+ * The configuration of the {@link UUIDv1} generators. It is read from the
+ * properties file named by the system property {@value #CONFIG}, or else from
+ * the class path resource {@value #RESOURCE} when present. System properties
+ * override the file; the file uses the same keys without the
+ * {@value #PREFIX} prefix.
+ * 
+ * <pre>
+ * generator  service, parallel, default, hlc, partitioned, adaptive or ksorted.
+ *            Unset uses a registered {@link Generator} service when there is
+ *            one, and parallel otherwise.
+ * lanes      the lanes of parallel, partitioned and adaptive, not supported
+ *            by the others
+ * clock      system (default) or monotonic, not supported by service and
+ *            ksorted
+ * random     secure (default), strong or fast, not supported by service
+ *            and ksorted
+ * v3, v5     the generator the wrapper hashes: shared (default) for the
+ *            generator above, or a generator name for one of its own
+ * v3.lanes,  the lanes of the generator of the wrapper, lanes only applies
+ * v5.lanes   to the generator above
+ * </pre>
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public final class GeneratorConfig {
+
+	/** The prefix of system properties **/
+	public static final String PREFIX = "eu.msmit.uuid.v1.";
+
+	/** The system property naming the properties file **/
+	public static final String CONFIG = PREFIX + "config";
+
+	/** The class path resource read when no file is named **/
+	public static final String RESOURCE = "/uuid-v1.properties";
+
+	/** The wrapper choice for the shared generator **/
+	public static final String SHARED = "shared";
+
+	private final Properties properties_;
+
+	/**
+	 * @param properties
+	 *            the configuration, keys without prefix
+	 */
+	public GeneratorConfig(Properties properties) {
+		properties_ = properties;
+	}
+
+	/**
+	 * Read the configuration from the properties file and system properties
+	 */
+	public static GeneratorConfig load() {
+		Properties properties = new Properties();
+		try {
+			String file = System.getProperty(CONFIG);
+			if (file != null) {
+				try (InputStream in = Files.newInputStream(Paths.get(file))) {
+					properties.load(in);
+				}
+			} else {
+				try (InputStream in = GeneratorConfig.class.getResourceAsStream(RESOURCE)) {
+					if (in != null) {
+						properties.load(in);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot read UUID configuration", e);
+		}
+
+		for (String name : System.getProperties().stringPropertyNames()) {
+			if (name.startsWith(PREFIX) && !name.equals(CONFIG)) {
+				properties.setProperty(name.substring(PREFIX.length()), System.getProperty(name));
+			}
+		}
+		return new GeneratorConfig(properties);
+	}
+
+	/**
+	 * @return the configured value, trimmed, or null
+	 */
+	public String get(String key) {
+		String value = properties_.getProperty(key);
+		return value == null ? null : value.trim();
+	}
+
+	/**
+	 * @return the configured generator
+	 * @throws IllegalArgumentException
+	 *             when the configuration is invalid
+	 */
+	public Generator create() {
+		String name = get("generator");
+		if (name == null) {
+			name = ServiceLoader.load(Generator.class).iterator().hasNext() ? "service" : "parallel";
+		}
+		return create(name);
+	}
+
+	/**
+	 * @param version
+	 *            3 or 5
+	 * @param shared
+	 *            supplies the configured generator, only called when the
+	 *            wrapper hashes the shared generator
+	 * @return the configured wrapper generator
+	 */
+	public Generator createWrapper(int version, Supplier<Generator> shared) {
+		if (version != 3 && version != 5) {
+			throw new IllegalArgumentException("Unsupported version " + version);
+		}
+
+		String name = get("v" + version);
+		Generator generator = name == null || SHARED.equals(name) ? shared.get()
+				: create(name, "v" + version + ".lanes");
+		return version == 3 ? new Type3Wrapper().wrap(generator) : new Type5Wrapper().wrap(generator);
+	}
+
+	/**
+	 * @param name
+	 *            the name of a generator
+	 * @return a new generator of that name, configured
+	 */
+	public Generator create(String name) {
+		return create(name, "lanes");
+	}
+
+	/**
+	 * @param lanesKey
+	 *            the key of the lanes of this generator
+	 */
+	private Generator create(String name, String lanesKey) {
+		String lanes = get(lanesKey);
+		Clock clock = clock();
+		Random random = random();
+
+		if (lanes != null && !name.equals("parallel") && !name.equals("partitioned") && !name.equals("adaptive")) {
+			throw new IllegalArgumentException("Generator " + name + " does not support " + lanesKey);
+		}
+		if ((name.equals("service") || name.equals("ksorted")) && (get("clock") != null || get("random") != null)) {
+			throw new IllegalArgumentException("Generator " + name + " does not support clock and random");
+		}
+
+		switch (name) {
+		case "service":
+			Generator service = service();
+			if (service == null) {
+				throw new IllegalArgumentException("No Generator service registered");
+			}
+			return service;
+		case "ksorted":
+			return new KSortedGenerator();
+		case "default":
+			return new DefaultGenerator(new Node(), clock, random);
+		case "hlc":
+			return new HybridClockGenerator(new Node(), clock, random);
+		case "parallel":
+			int concurrency = lanes == null ? ParallelGenerator.DEFAULT_CONCURRENCY : parse(lanesKey, lanes);
+			return new ParallelGenerator(concurrency, () -> new DefaultGenerator(new Node(), clock, random));
+		case "partitioned":
+			int partitions = lanes == null ? PartitionedGenerator.DEFAULT_PARTITIONS : parse(lanesKey, lanes);
+			return new PartitionedGenerator(new Node(), partitions, clock, random);
+		case "adaptive":
+			int maxLanes = lanes == null ? AdaptiveGenerator.DEFAULT_LANES : parse(lanesKey, lanes);
+			return new AdaptiveGenerator(new Node(), maxLanes, false, clock, random);
+		default:
+			throw new IllegalArgumentException("Unknown generator " + name);
+		}
+	}
+
+	private Clock clock() {
+		String clock = get("clock");
+		if (clock == null || clock.equals("system")) {
+			return Clock.systemUTC();
+		} else if (clock.equals("monotonic")) {
+			return new MonotonicClock();
+		}
+		throw new IllegalArgumentException("Unknown clock " + clock);
+	}
+
+	private Random random() {
+		String random = get("random");
+		if (random == null || random.equals("secure")) {
+			return DefaultGenerator.RANDOM;
+		} else if (random.equals("strong")) {
+			try {
+				return SecureRandom.getInstanceStrong();
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalArgumentException("No strong random available", e);
+			}
+		} else if (random.equals("fast")) {
+			return new Random();
+		}
+		throw new IllegalArgumentException("Unknown random " + random);
+	}
+
+	private static int parse(String key, String value) {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid " + key + ": " + value, e);
+		}
+	}
+
+	private static Generator service() {
+		Iterator<Generator> it = ServiceLoader.load(Generator.class).iterator();
+		return it.hasNext() ? it.next() : null;
+	}
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Optional counters on the internals of a generator. Counters are striped
+ * ({@link LongAdder}), so concurrent lanes sharing one instance do not
+ * contend. Attach with {@link DefaultGenerator#setMetrics(GeneratorMetrics)}
+ * or {@link ParallelGenerator#setMetrics(GeneratorMetrics)} and expose them
+ * with {@link #register(String)}.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class GeneratorMetrics implements GeneratorMetricsMBean {
+
+	/** The JMX domain for registered metrics **/
+	public static final String DOMAIN = "eu.msmit.uuid.v1";
+
+	private final LongAdder issued_ = new LongAdder();
+	private final LongAdder clockSequenceIncrements_ = new LongAdder();
+	private final LongAdder backwardSkews_ = new LongAdder();
+	private final LongAdder spinWaits_ = new LongAdder();
+	private final LongAdder spinWaitNanos_ = new LongAdder();
+	private final LongAdder gaps_ = new LongAdder();
+	private final LongAccumulator maxLogicalLead_ = new LongAccumulator(Math::max, 0L);
+	private final LongAdder[] lanes_;
+	private ObjectName name_;
+
+	/**
+	 * Create metrics for a single generator
+	 */
+	public GeneratorMetrics() {
+		this(0);
+	}
+
+	/**
+	 * Create metrics for a pool of generators
+	 * 
+	 * @param lanes
+	 *            the number of lanes in the pool
+	 */
+	public GeneratorMetrics(int lanes) {
+		lanes_ = new LongAdder[lanes];
+		for (int l = 0; l < lanes; l++) {
+			lanes_[l] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Register this instance with the platform MBean server
+	 * 
+	 * @param name
+	 *            the name of the generator, unique within the JVM
+	 * @return the name it was registered with
+	 * @throws JMException
+	 *             when the registration failed, for example when the name is
+	 *             already taken
+	 */
+	public synchronized ObjectName register(String name) throws JMException {
+		if (name_ != null) {
+			throw new IllegalStateException("Already registered as " + name_);
+		}
+
+		ObjectName objectName = new ObjectName(DOMAIN + ":type=Generator,name=" + ObjectName.quote(name));
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+		name_ = objectName;
+		return objectName;
+	}
+
+	/**
+	 * Remove this instance from the platform MBean server, if registered
+	 */
+	public synchronized void unregister() throws JMException {
+		if (name_ != null) {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (server.isRegistered(name_)) {
+				server.unregisterMBean(name_);
+			}
+			name_ = null;
+		}
+	}
+
+	void issued() {
+		issued_.increment();
+	}
+
+	void issued(int lane) {
+		issued(lane, 1);
+	}
+
+	void issued(int lane, int count) {
+		if (lane < lanes_.length) {
+			lanes_[lane].add(count);
+		}
+	}
+
+	void clockSequenceIncremented() {
+		clockSequenceIncrements_.increment();
+	}
+
+	void backwardSkew() {
+		backwardSkews_.increment();
+	}
+
+	void spinWait(long nanos) {
+		spinWaits_.increment();
+		spinWaitNanos_.add(nanos);
+	}
+
+	void gap() {
+		gaps_.increment();
+	}
+
+	void logicalLead(long ticks) {
+		maxLogicalLead_.accumulate(ticks);
+	}
+
+	@Override
+	public long getIssued() {
+		return issued_.sum();
+	}
+
+	@Override
+	public long getClockSequenceIncrements() {
+		return clockSequenceIncrements_.sum();
+	}
+
+	@Override
+	public long getBackwardSkews() {
+		return backwardSkews_.sum();
+	}
+
+	@Override
+	public long getSpinWaits() {
+		return spinWaits_.sum();
+	}
+
+	@Override
+	public long getSpinWaitNanos() {
+		return spinWaitNanos_.sum();
+	}
+
+	@Override
+	public long getGaps() {
+		return gaps_.sum();
+	}
+
+	@Override
+	public long getMaxLogicalLead() {
+		return maxLogicalLead_.get();
+	}
+
+	@Override
+	public long[] getLaneIssued() {
+		long[] issued = new long[lanes_.length];
+		for (int l = 0; l < lanes_.length; l++) {
+			issued[l] = lanes_[l].sum();
+		}
+		return issued;
+	}
+
+	@Override
+	public void reset() {
+		issued_.reset();
+		clockSequenceIncrements_.reset();
+		backwardSkews_.reset();
+		spinWaits_.reset();
+		spinWaitNanos_.reset();
+		gaps_.reset();
+		maxLogicalLead_.reset();
+		for (LongAdder lane : lanes_) {
+			lane.reset();
+		}
+	}
+}
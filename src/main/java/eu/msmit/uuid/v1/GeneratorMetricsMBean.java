@@ -0,0 +1,75 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+/**
+ * JMX view on the {@link GeneratorMetrics} of a generator or pool.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public interface GeneratorMetricsMBean {
+
+	/**
+	 * @return the number of UUIDs issued
+	 */
+	long getIssued();
+
+	/**
+	 * @return the number of times the clock sequence was incremented, because
+	 *         the timestamp did not move forward
+	 */
+	long getClockSequenceIncrements();
+
+	/**
+	 * @return the number of times the system clock moved backwards
+	 */
+	long getBackwardSkews();
+
+	/**
+	 * @return the number of times all ticks of a millisecond were used and the
+	 *         generator had to wait for the next one
+	 */
+	long getSpinWaits();
+
+	/**
+	 * @return the total time spent waiting for the next millisecond
+	 */
+	long getSpinWaitNanos();
+
+	/**
+	 * @return the number of new random gaps, rolled once per millisecond
+	 */
+	long getGaps();
+
+	/**
+	 * @return the largest distance the logical time of a hybrid logical clock
+	 *         was ahead of the end of the current millisecond of the system
+	 *         clock, in 100ns ticks
+	 */
+	long getMaxLogicalLead();
+
+	/**
+	 * @return the number of UUIDs issued per lane of a pool, empty for a
+	 *         single generator
+	 */
+	long[] getLaneIssued();
+
+	/**
+	 * Reset all counters to zero
+	 */
+	void reset();
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * A sized {@link Spliterator} of new UUIDs. UUIDs are generated in batches
+ * through {@link Generator#next(long[], long[], int, int)}, so a generator
+ * lock is taken once per batch rather than once per UUID.
+ * 
+ * When created over the lanes of a pool, every split moves to another lane,
+ * so the fork-join workers of a parallel stream each get their own generator.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class GeneratorSpliterator implements Spliterator<UUID> {
+
+	/** The number of UUIDs generated per batch **/
+	private static final int BATCH = 256;
+
+	/** Do not split below this size **/
+	private static final long MIN_SPLIT = BATCH * 4;
+
+	private final Generator[] lanes_;
+	private final int lane_;
+	private int stride_;
+	private long remaining_;
+	private long[] msb_;
+	private long[] lsb_;
+	private int pos_;
+	private int limit_;
+
+	/**
+	 * @param generator
+	 *            the generator
+	 * @param size
+	 *            the number of UUIDs to generate
+	 */
+	public GeneratorSpliterator(Generator generator, long size) {
+		this(new Generator[] { generator }, 0, size);
+	}
+
+	/**
+	 * @param lanes
+	 *            the lanes to distribute splits over
+	 * @param lane
+	 *            the lane of this spliterator
+	 * @param size
+	 *            the number of UUIDs to generate
+	 */
+	public GeneratorSpliterator(Generator[] lanes, int lane, long size) {
+		this(lanes, lane, 1, size);
+	}
+
+	private GeneratorSpliterator(Generator[] lanes, int lane, int stride, long size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Negative size");
+		}
+		lanes_ = lanes;
+		lane_ = lane % lanes.length;
+		stride_ = stride;
+		remaining_ = size;
+	}
+
+	/**
+	 * Generate the next batch into the buffer
+	 * 
+	 * @return false when no UUIDs remain
+	 */
+	private boolean fill() {
+		if (remaining_ == 0) {
+			return false;
+		}
+
+		if (msb_ == null) {
+			int size = (int) Math.min(BATCH, remaining_);
+			msb_ = new long[size];
+			lsb_ = new long[size];
+		}
+
+		int length = (int) Math.min(msb_.length, remaining_);
+		lanes_[lane_].next(msb_, lsb_, 0, length);
+		remaining_ -= length;
+		pos_ = 0;
+		limit_ = length;
+		return true;
+	}
+
+	/**
+	 * Like {@link #tryAdvance(Consumer)}, without creating a UUID instance
+	 */
+	public boolean tryAdvanceBits(UUIDSink sink) {
+		if (pos_ == limit_ && !fill()) {
+			return false;
+		}
+		sink.accept(msb_[pos_], lsb_[pos_]);
+		pos_++;
+		return true;
+	}
+
+	/**
+	 * Like {@link #forEachRemaining(Consumer)}, without creating UUID
+	 * instances
+	 */
+	public void forEachRemainingBits(UUIDSink sink) {
+		do {
+			for (; pos_ < limit_; pos_++) {
+				sink.accept(msb_[pos_], lsb_[pos_]);
+			}
+		} while (fill());
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super UUID> action) {
+		if (pos_ == limit_ && !fill()) {
+			return false;
+		}
+		action.accept(new UUID(msb_[pos_], lsb_[pos_]));
+		pos_++;
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super UUID> action) {
+		do {
+			for (; pos_ < limit_; pos_++) {
+				action.accept(new UUID(msb_[pos_], lsb_[pos_]));
+			}
+		} while (fill());
+	}
+
+	@Override
+	public GeneratorSpliterator trySplit() {
+		if (remaining_ < MIN_SPLIT) {
+			return null;
+		}
+
+		long half = remaining_ >>> 1;
+		remaining_ -= half;
+
+		// The split takes the next free lane, both continue with a doubled
+		// stride so their own splits do not overlap.
+		GeneratorSpliterator split = new GeneratorSpliterator(lanes_, lane_ + stride_, stride_ << 1, half);
+		stride_ <<= 1;
+		return split;
+	}
+
+	@Override
+	public long estimateSize() {
+		return remaining_ + (limit_ - pos_);
+	}
+
+	@Override
+	public int characteristics() {
+		return SIZED | SUBSIZED | NONNULL | DISTINCT | IMMUTABLE;
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.time.Clock;
+import java.util.Random;
+
+/**
+ * A {@link DefaultGenerator} with a hybrid logical clock. The timestamp never
+ * moves backwards: when the system clock goes back, or more UUIDs are needed
+ * in a millisecond than it has ticks, the timestamp advances one tick per
+ * UUID from the last one, until the system clock catches up.
+ * 
+ * UUIDs of one generator are therefore in time order, even through clock
+ * steps, and the clock sequence is never incremented. The price is that
+ * timestamps may lead the system clock, which is tracked by {@link #getLead()}
+ * and {@link GeneratorMetrics#getMaxLogicalLead()}.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class HybridClockGenerator extends DefaultGenerator {
+
+	private long last_;
+	private long lastWall_;
+	private volatile long lead_;
+
+	public HybridClockGenerator() {
+		this(new Node());
+	}
+
+	public HybridClockGenerator(Node node) {
+		super(node);
+	}
+
+	/**
+	 * @see DefaultGenerator#DefaultGenerator(Node, Clock, Random)
+	 */
+	public HybridClockGenerator(Node node, Clock clock, Random random) {
+		super(node, clock, random);
+	}
+
+	/**
+	 * @return the last timestamp plus one, or the current time when it is later
+	 */
+	@Override
+	protected long nextTimestamp() {
+		long now = currentTimeMs();
+		long wall = UUIDBits.ticks(now);
+
+		if (wall < lastWall_) {
+			Events.clockSkew(UUIDBits.millis(lastWall_), now);
+			if (getMetrics() != null) {
+				getMetrics().backwardSkew();
+			}
+		}
+		lastWall_ = wall;
+
+		if (wall > last_) {
+			last_ = wall;
+			lead_ = 0;
+		} else {
+			last_++;
+			// Ticks within the current millisecond are not ahead of the clock
+			lead_ = Math.max(0, last_ - (wall + UUIDBits.TICKS_PER_MS - 1));
+
+			if (lead_ > 0 && getMetrics() != null) {
+				getMetrics().logicalLead(lead_);
+			}
+		}
+
+		return last_;
+	}
+
+	/**
+	 * @return the distance the last timestamp was ahead of the end of the
+	 *         current millisecond of the system clock, in 100ns ticks
+	 */
+	public long getLead() {
+		return lead_;
+	}
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The Flight Recorder events, only loaded through {@link Events} when JFR is
+ * present.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class JfrEvents {
+
+	@Name("eu.msmit.uuid.v1.ClockSkew")
+	@Label("Clock Skew")
+	@Description("The system clock moved backwards")
+	@Category({ "UUID Generator" })
+	@Enabled(false)
+	static class ClockSkewEvent extends Event {
+		@Label("Previous Time")
+		@jdk.jfr.Timestamp(jdk.jfr.Timestamp.MILLISECONDS_SINCE_EPOCH)
+		long previous;
+
+		@Label("Current Time")
+		@jdk.jfr.Timestamp(jdk.jfr.Timestamp.MILLISECONDS_SINCE_EPOCH)
+		long now;
+
+		@Label("Magnitude")
+		@Timespan(Timespan.MILLISECONDS)
+		long magnitude;
+	}
+
+	@Name("eu.msmit.uuid.v1.TickExhausted")
+	@Label("Tick Exhausted")
+	@Description("All 100ns ticks of a millisecond were used, waited for the next millisecond")
+	@Category({ "UUID Generator" })
+	@Enabled(false)
+	static class TickExhaustedEvent extends Event {
+		@Label("Millisecond")
+		@jdk.jfr.Timestamp(jdk.jfr.Timestamp.MILLISECONDS_SINCE_EPOCH)
+		long millis;
+
+		@Label("Wait")
+		@Timespan(Timespan.NANOSECONDS)
+		long wait;
+	}
+
+	@Name("eu.msmit.uuid.v1.ClockSequence")
+	@Label("Clock Sequence")
+	@Description("A new clock sequence was seeded or incremented")
+	@Category({ "UUID Generator" })
+	@Enabled(false)
+	static class ClockSequenceEvent extends Event {
+		@Label("Previous")
+		@Description("The previous clock sequence, -1 when randomly seeded")
+		int previous;
+
+		@Label("Next")
+		int next;
+	}
+
+	@Name("eu.msmit.uuid.v1.SlowNext")
+	@Label("Slow Next")
+	@Description("A call to next() exceeded the eu.msmit.uuid.v1.jfr.slowNextNanos threshold")
+	@Category({ "UUID Generator" })
+	@Enabled(false)
+	static class SlowNextEvent extends Event {
+		@Label("Generator")
+		String generator;
+
+		@Label("Elapsed")
+		@Timespan(Timespan.NANOSECONDS)
+		long elapsed;
+	}
+
+	/** Only used to check if the event is enabled, never committed **/
+	private static final SlowNextEvent SLOW_NEXT = new SlowNextEvent();
+
+	private JfrEvents() {
+	}
+
+	static boolean isSlowNextEnabled() {
+		return SLOW_NEXT.isEnabled();
+	}
+
+	static void slowNext(Generator generator, long duration) {
+		SlowNextEvent event = new SlowNextEvent();
+		if (event.isEnabled()) {
+			event.generator = generator.getClass().getName();
+			event.elapsed = duration;
+			event.commit();
+		}
+	}
+
+	static void clockSkew(long previous, long now) {
+		ClockSkewEvent event = new ClockSkewEvent();
+		if (event.isEnabled()) {
+			event.previous = previous;
+			event.now = now;
+			event.magnitude = previous - now;
+			event.commit();
+		}
+	}
+
+	static void tickExhausted(long millis, long wait) {
+		TickExhaustedEvent event = new TickExhaustedEvent();
+		if (event.isEnabled()) {
+			event.millis = millis;
+			event.wait = wait;
+			event.commit();
+		}
+	}
+
+	static void clockSequence(int previous, int next) {
+		ClockSequenceEvent event = new ClockSequenceEvent();
+		if (event.isEnabled()) {
+			event.previous = previous;
+			event.next = next;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent generation with bounded disorder. All threads reserve slices of
+ * timestamp ticks from one shared frontier, which never moves backwards, and
+ * issue the ticks of their slice without further coordination. A slice that
+ * fell more than epsilon behind the clock is dropped, so a UUID issued at
+ * time T never has a timestamp before T minus epsilon.
+ * 
+ * Every tick is used once, so all UUIDs share one node and one clock sequence.
+ * When more than 10000 UUIDs per millisecond are issued, the frontier runs
+ * ahead of the clock until demand drops.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class KSortedGenerator implements Generator {
+	private static final long DEFAULT_EPSILON_MS = 1L;
+	private static final int DEFAULT_SLICE = 64;
+
+	/**
+	 * The per thread slice of reserved ticks
+	 */
+	private static final class Slice {
+		long next_;
+		long end_;
+	}
+
+	private final long node_;
+	private final int clock_;
+	private final long epsilon_;
+	private final int slice_;
+
+	/** The first tick not reserved yet **/
+	private final AtomicLong frontier_ = new AtomicLong();
+
+	private final ThreadLocal<Slice> slices_ = new ThreadLocal<Slice>() {
+		@Override
+		protected Slice initialValue() {
+			return new Slice();
+		}
+	};
+
+	/**
+	 * Create a generator with a disorder of at most a millisecond
+	 */
+	public KSortedGenerator() {
+		this(new Node(), DEFAULT_EPSILON_MS, DEFAULT_SLICE);
+	}
+
+	/**
+	 * @param node
+	 *            the node
+	 * @param epsilonMs
+	 *            the maximum age of a timestamp when issued
+	 * @param slice
+	 *            the number of ticks a thread reserves at once, smaller
+	 *            slices give less disorder but more contention
+	 */
+	public KSortedGenerator(Node node, long epsilonMs, int slice) {
+		if (epsilonMs < 0 || slice <= 0) {
+			throw new IllegalArgumentException();
+		}
+		node_ = node.getValue();
+		clock_ = new SecureRandom().nextInt() & UUIDBits.MAX_CLOCK_SEQUENCE;
+		epsilon_ = epsilonMs * UUIDBits.TICKS_PER_MS;
+		slice_ = slice;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next()
+	 */
+	@Override
+	public UUID next() {
+		Slice slice = slices_.get();
+		long wall = UUIDBits.ticks(currentTimeMs());
+
+		if (slice.next_ >= slice.end_ || slice.next_ < wall - epsilon_) {
+			slice.next_ = reserve(wall, slice_);
+			slice.end_ = slice.next_ + slice_;
+		}
+
+		return new UUID(UUIDBits.msb(slice.next_++), UUIDBits.lsb(clock_, node_));
+	}
+
+	/**
+	 * The batch uses a range of ticks reserved for it alone, so it is sorted.
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next(long[], long[], int, int)
+	 */
+	@Override
+	public void next(long[] msb, long[] lsb, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > msb.length || offset + length > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		long tick = reserve(length);
+		long bits = UUIDBits.lsb(clock_, node_);
+		for (int i = offset; i < offset + length; i++) {
+			msb[i] = UUIDBits.msb(tick++);
+			lsb[i] = bits;
+		}
+	}
+
+	/**
+	 * Reserve a range of ticks for exclusive use with {@link #getNode()} and
+	 * {@link #getClockSequence()}
+	 * 
+	 * @param ticks
+	 *            the number of ticks
+	 * @return the first tick of the range
+	 */
+	public long reserve(int ticks) {
+		return reserve(UUIDBits.ticks(currentTimeMs()), ticks);
+	}
+
+	private long reserve(long wall, int ticks) {
+		for (;;) {
+			long frontier = frontier_.get();
+			long start = Math.max(frontier, wall);
+			if (frontier_.compareAndSet(frontier, start + ticks)) {
+				return start;
+			}
+		}
+	}
+
+	/**
+	 * @return how far the frontier is ahead of the clock, in ticks
+	 */
+	public long getLead() {
+		return Math.max(0, frontier_.get() - UUIDBits.ticks(currentTimeMs()));
+	}
+
+	/**
+	 * @return the node of all UUIDs
+	 */
+	public long getNode() {
+		return node_;
+	}
+
+	/**
+	 * @return the clock sequence of all UUIDs
+	 */
+	public int getClockSequence() {
+		return clock_;
+	}
+
+	/** Override for testing **/
+	protected long currentTimeMs() {
+		return System.currentTimeMillis();
+	}
+}
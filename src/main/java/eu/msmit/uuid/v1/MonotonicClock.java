@@ -0,0 +1,71 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A clock that starts at the system time and then follows
+ * {@link System#nanoTime()}, so it never steps back when the system clock is
+ * adjusted. It drifts from the system clock by the drift of the timer.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class MonotonicClock extends Clock {
+	private final long baseMs_;
+	private final long baseNanos_;
+	private final ZoneId zone_;
+
+	MonotonicClock() {
+		this(System.currentTimeMillis(), System.nanoTime(), ZoneOffset.UTC);
+	}
+
+	private MonotonicClock(long baseMs, long baseNanos, ZoneId zone) {
+		baseMs_ = baseMs;
+		baseNanos_ = baseNanos;
+		zone_ = zone;
+	}
+
+	@Override
+	public long millis() {
+		return baseMs_ + (System.nanoTime() - baseNanos_) / 1000000L;
+	}
+
+	@Override
+	public Instant instant() {
+		return Instant.ofEpochMilli(millis());
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return zone_;
+	}
+
+	/**
+	 * @return a clock in the zone that shares the time line of this one
+	 */
+	@Override
+	public Clock withZone(ZoneId zone) {
+		if (zone_.equals(zone)) {
+			return this;
+		}
+		return new MonotonicClock(baseMs_, baseNanos_, zone);
+	}
+}
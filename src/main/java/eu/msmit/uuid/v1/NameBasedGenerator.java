@@ -0,0 +1,313 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * Generates name based version 3 (MD5) and version 5 (SHA-1) UUIDs as
+ * described in RFC 4122, for any namespace and name. The same namespace and
+ * name always give the same UUID.
+ * 
+ * Every thread reuses its own digest, encode buffer and output buffer, and
+ * the namespace bytes are prepared once, so generating a UUID allocates only
+ * the UUID. Character names are hashed as UTF-8, encoded in chunks straight
+ * into the digest.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class NameBasedGenerator {
+
+	/** The namespace for fully qualified domain names **/
+	public static final UUID NAMESPACE_DNS = UUID.fromString("6ba7b810-9dad-11d1-80b4-00c04fd430c8");
+
+	/** The namespace for URLs **/
+	public static final UUID NAMESPACE_URL = UUID.fromString("6ba7b811-9dad-11d1-80b4-00c04fd430c8");
+
+	/** The namespace for ISO OIDs **/
+	public static final UUID NAMESPACE_OID = UUID.fromString("6ba7b812-9dad-11d1-80b4-00c04fd430c8");
+
+	/** The namespace for X.500 DNs **/
+	public static final UUID NAMESPACE_X500 = UUID.fromString("6ba7b814-9dad-11d1-80b4-00c04fd430c8");
+
+	private static final int BUFFER = 256;
+
+	/**
+	 * The reused buffers of one thread
+	 */
+	private static final class State {
+		final MessageDigest digest_;
+		final byte[] encoded_ = new byte[BUFFER];
+		final byte[] hash_;
+
+		State(MessageDigest digest) {
+			digest_ = digest;
+			hash_ = new byte[digest.getDigestLength()];
+		}
+	}
+
+	private final UUID namespace_;
+	private final byte[] namespaceBytes_;
+	private final String algorithm_;
+	private final long version_;
+	private final ThreadLocal<State> state_ = new ThreadLocal<State>() {
+		@Override
+		protected State initialValue() {
+			try {
+				return new State(MessageDigest.getInstance(algorithm_));
+			} catch (NoSuchAlgorithmException e) {
+				throw new InternalError(algorithm_ + " not supported", e);
+			}
+		}
+	};
+
+	NameBasedGenerator(UUID namespace, String algorithm, int version) {
+		namespace_ = namespace;
+		namespaceBytes_ = ByteBuffer.allocate(16).putLong(namespace.getMostSignificantBits())
+				.putLong(namespace.getLeastSignificantBits()).array();
+		algorithm_ = algorithm;
+		version_ = version;
+	}
+
+	/**
+	 * @param namespace
+	 *            the namespace
+	 * @return a generator of version 3 (MD5) UUIDs
+	 */
+	public static NameBasedGenerator v3(UUID namespace) {
+		return new NameBasedGenerator(namespace, "MD5", 3);
+	}
+
+	/**
+	 * @param namespace
+	 *            the namespace
+	 * @return a generator of version 5 (SHA-1) UUIDs
+	 */
+	public static NameBasedGenerator v5(UUID namespace) {
+		return new NameBasedGenerator(namespace, "SHA-1", 5);
+	}
+
+	/**
+	 * @return the namespace
+	 */
+	public UUID getNamespace() {
+		return namespace_;
+	}
+
+	/**
+	 * @return the version of the generated UUIDs
+	 */
+	public int getVersion() {
+		return (int) version_;
+	}
+
+	/**
+	 * @return the UUID of the name
+	 */
+	public UUID generate(byte[] name) {
+		return generate(name, 0, name.length);
+	}
+
+	/**
+	 * @return the UUID of the bytes [offset, offset + length) of the name
+	 */
+	public UUID generate(byte[] name, int offset, int length) {
+		State state = begin();
+		state.digest_.update(name, offset, length);
+		return finish(state);
+	}
+
+	/**
+	 * @return the UUID of the remaining bytes of the name, the position of the
+	 *         buffer is not changed
+	 */
+	public UUID generate(ByteBuffer name) {
+		State state = begin();
+		int position = name.position();
+		state.digest_.update(name);
+		name.position(position);
+		return finish(state);
+	}
+
+	/**
+	 * @return the UUID of the UTF-8 encoded name
+	 */
+	public UUID generate(CharSequence name) {
+		State state = begin();
+		update(state, name);
+		return finish(state);
+	}
+
+	/**
+	 * @return the UUID of the 16 bytes of another UUID
+	 */
+	UUID generate(long nameMsb, long nameLsb) {
+		State state = begin();
+		update(state, nameMsb, nameLsb);
+		return finish(state);
+	}
+
+	/**
+	 * Replace the UUIDs at [offset, offset + length) by the UUIDs of their 16
+	 * bytes
+	 */
+	void generateInPlace(long[] msb, long[] lsb, int offset, int length) {
+		State state = state_.get();
+		for (int i = offset; i < offset + length; i++) {
+			state.digest_.reset();
+			state.digest_.update(namespaceBytes_);
+			update(state, msb[i], lsb[i]);
+			digest(state);
+			msb[i] = msb(state.hash_);
+			lsb[i] = lsb(state.hash_);
+		}
+	}
+
+	/**
+	 * Generate the UUIDs of the names [from, from + length) into the arrays,
+	 * starting at offset
+	 */
+	public void generate(CharSequence[] names, int from, long[] msb, long[] lsb, int offset, int length) {
+		if (from < 0 || offset < 0 || length < 0 || from + length > names.length || offset + length > msb.length
+				|| offset + length > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		State state = state_.get();
+		for (int i = 0; i < length; i++) {
+			state.digest_.reset();
+			state.digest_.update(namespaceBytes_);
+			update(state, names[from + i]);
+			digest(state);
+			msb[offset + i] = msb(state.hash_);
+			lsb[offset + i] = lsb(state.hash_);
+		}
+	}
+
+	/**
+	 * @return the UUIDs of the names
+	 */
+	public UUID[] generate(CharSequence... names) {
+		long[] msb = new long[names.length];
+		long[] lsb = new long[names.length];
+		generate(names, 0, msb, lsb, 0, names.length);
+
+		UUID[] uuids = new UUID[names.length];
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = new UUID(msb[i], lsb[i]);
+		}
+		return uuids;
+	}
+
+	/**
+	 * Start a digest of the namespace, dropping what an earlier call left in
+	 * the digest when it failed on its name
+	 */
+	private State begin() {
+		State state = state_.get();
+		state.digest_.reset();
+		state.digest_.update(namespaceBytes_);
+		return state;
+	}
+
+	private UUID finish(State state) {
+		digest(state);
+		return new UUID(msb(state.hash_), lsb(state.hash_));
+	}
+
+	private void digest(State state) {
+		try {
+			state.digest_.digest(state.hash_, 0, state.hash_.length);
+		} catch (DigestException e) {
+			throw new InternalError(algorithm_ + " failed", e);
+		}
+	}
+
+	private long msb(byte[] hash) {
+		long msb = 0;
+		for (int i = 0; i < 8; i++) {
+			msb = msb << 8 | (hash[i] & 0xFF);
+		}
+		return msb & ~0xF000L | version_ << 12;
+	}
+
+	private static long lsb(byte[] hash) {
+		long lsb = 0;
+		for (int i = 8; i < 16; i++) {
+			lsb = lsb << 8 | (hash[i] & 0xFF);
+		}
+		return lsb & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+	}
+
+	private static void update(State state, long msb, long lsb) {
+		byte[] buf = state.encoded_;
+		for (int i = 0; i < 8; i++) {
+			buf[i] = (byte) (msb >>> (56 - 8 * i));
+			buf[i + 8] = (byte) (lsb >>> (56 - 8 * i));
+		}
+		state.digest_.update(buf, 0, 16);
+	}
+
+	/**
+	 * Feed the UTF-8 encoding of the name to the digest, through the encode
+	 * buffer. Unpaired surrogates are encoded as '?', like
+	 * {@link String#getBytes(java.nio.charset.Charset)} does.
+	 */
+	private static void update(State state, CharSequence name) {
+		MessageDigest digest = state.digest_;
+		byte[] buf = state.encoded_;
+		int n = 0;
+		int length = name.length();
+
+		for (int i = 0; i < length; i++) {
+			if (n > BUFFER - 4) {
+				digest.update(buf, 0, n);
+				n = 0;
+			}
+
+			char c = name.charAt(i);
+			if (c < 0x80) {
+				buf[n++] = (byte) c;
+			} else if (c < 0x800) {
+				buf[n++] = (byte) (0xC0 | c >> 6);
+				buf[n++] = (byte) (0x80 | c & 0x3F);
+			} else if (Character.isSurrogate(c)) {
+				char low;
+				if (Character.isHighSurrogate(c) && i + 1 < length
+						&& Character.isLowSurrogate(low = name.charAt(i + 1))) {
+					int cp = Character.toCodePoint(c, low);
+					buf[n++] = (byte) (0xF0 | cp >> 18);
+					buf[n++] = (byte) (0x80 | cp >> 12 & 0x3F);
+					buf[n++] = (byte) (0x80 | cp >> 6 & 0x3F);
+					buf[n++] = (byte) (0x80 | cp & 0x3F);
+					i++;
+				} else {
+					buf[n++] = '?';
+				}
+			} else {
+				buf[n++] = (byte) (0xE0 | c >> 12);
+				buf[n++] = (byte) (0x80 | c >> 6 & 0x3F);
+				buf[n++] = (byte) (0x80 | c & 0x3F);
+			}
+		}
+		digest.update(buf, 0, n);
+	}
+}
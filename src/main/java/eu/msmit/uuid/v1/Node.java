@@ -42,37 +42,82 @@ public class Node {
 	private static final String[] ENV = new String[] { "os.name", "os.arch", "os.version", "java.vm.version",
 			"java.vm.vendor", "java.vm.name", "java.class.path", "sun.java.command" };
 
+	/** A fixed node for generators that do not put a node in their UUIDs **/
+	static final Node NONE = new Node(0L);
+
 	private final long node_;
 
 	public Node() {
+		List<String> nodeElms = new ArrayList<>(64);
+		digestNetworkInterfaces(nodeElms);
+		digestEnv(nodeElms);
+		digestProcess(nodeElms);
+		digestInstance(nodeElms);
+		node_ = digest(nodeElms);
+	}
+
+	/**
+	 * Create a node from the given digest inputs instead of the current
+	 * environment, for example to reproduce the nodes of other hosts
+	 * 
+	 * @param nodeElms
+	 *            the inputs, in the form the digest methods add them
+	 */
+	protected Node(List<String> nodeElms) {
+		node_ = digest(nodeElms);
+	}
+
+	private Node(long value) {
+		node_ = value;
+	}
+
+	/**
+	 * Derive another node from this node, for example to give every lane of a
+	 * pool its own node without inspecting the environment again. The same
+	 * index always derives the same node.
+	 * 
+	 * @param index
+	 *            the index of the derived node
+	 * @return the derived node
+	 */
+	public Node derive(int index) {
 		try {
-			List<String> nodeElms = new ArrayList<>(64);
-			digestNetworkInterfaces(nodeElms);
-			digestEnv(nodeElms);
-			digestProcess(nodeElms);
-			digestInstance(nodeElms);
+			MessageDigest digest = MessageDigest.getInstance("md5");
+			for (int shift = 40; shift >= 0; shift -= 8) {
+				digest.update((byte) (node_ >>> shift));
+			}
+			for (int shift = 24; shift >= 0; shift -= 8) {
+				digest.update((byte) (index >>> shift));
+			}
+			return new Node(toValue(digest.digest()));
+		} catch (NoSuchAlgorithmException e) {
+			throw new Error(e);
+		}
+	}
 
+	private static long digest(List<String> nodeElms) {
+		try {
 			MessageDigest digest = MessageDigest.getInstance("md5");
 			for (String nodeElm : nodeElms) {
 				digest.update(nodeElm.getBytes());
 			}
-			byte[] buf = digest.digest();
-
-			long v = (buf[5] & 0xFFL) << 40;
-			v |= (buf[4] & 0xFFL) << 32;
-			v |= (buf[3] & 0xFFL) << 24;
-			v |= (buf[2] & 0xFFL) << 16;
-			v |= (buf[1] & 0xFFL) << 8;
-			v |= (buf[0] & 0xFFL);
-			v |= 0x010000000000L; // Raise multicast bit;
-
-			node_ = v;
-			digest = null; // hint the GC
+			return toValue(digest.digest());
 		} catch (NoSuchAlgorithmException e) {
 			throw new Error(e);
 		}
 	}
 
+	private static long toValue(byte[] buf) {
+		long v = (buf[5] & 0xFFL) << 40;
+		v |= (buf[4] & 0xFFL) << 32;
+		v |= (buf[3] & 0xFFL) << 24;
+		v |= (buf[2] & 0xFFL) << 16;
+		v |= (buf[1] & 0xFFL) << 8;
+		v |= (buf[0] & 0xFFL);
+		v |= 0x010000000000L; // Raise multicast bit;
+		return v;
+	}
+
 	protected void digestInstance(List<String> nodeElms) {
 		nodeElms.add("instanceId=" + getInstanceId());
 	}
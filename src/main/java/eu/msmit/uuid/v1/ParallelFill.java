@@ -0,0 +1,186 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fills large arrays with UUIDs by splitting the work over a
+ * {@link ForkJoinPool}. Every worker of the pool has its own
+ * {@link DefaultGenerator} lane with a node derived from a single
+ * {@link Node}, so workers never wait for each other.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class ParallelFill {
+
+	/** The smallest amount of UUIDs generated by one task **/
+	private static final int MIN_TASK = 1 << 12;
+
+	/** The number of UUIDs generated per lock of a lane **/
+	private static final int BATCH = 256;
+
+	private final ForkJoinPool pool_;
+	private final DefaultGenerator[] lanes_;
+
+	/**
+	 * Fill using the common pool
+	 */
+	public ParallelFill() {
+		this(ForkJoinPool.commonPool(), new Node());
+	}
+
+	/**
+	 * @param pool
+	 *            the pool to run on
+	 * @param node
+	 *            the node to derive the lane nodes from
+	 */
+	public ParallelFill(ForkJoinPool pool, Node node) {
+		pool_ = pool;
+
+		// One lane per worker, plus one for tasks run by a non worker thread
+		lanes_ = new DefaultGenerator[pool.getParallelism() + 1];
+		for (int l = 0; l < lanes_.length; l++) {
+			lanes_[l] = new DefaultGenerator(node.derive(l));
+		}
+	}
+
+	/**
+	 * Fill both arrays completely
+	 */
+	public void fill(long[] msb, long[] lsb) {
+		fill(msb, lsb, 0, Math.min(msb.length, lsb.length), false);
+	}
+
+	/**
+	 * Fill a range of both arrays
+	 * 
+	 * @param msb
+	 *            receives the most significant bits
+	 * @param lsb
+	 *            receives the least significant bits
+	 * @param offset
+	 *            the first index to fill
+	 * @param length
+	 *            the number of UUIDs
+	 * @param sorted
+	 *            sort the range by timestamp after filling
+	 */
+	public void fill(long[] msb, long[] lsb, int offset, int length, boolean sorted) {
+		if (offset < 0 || length < 0 || offset + length > msb.length || offset + length > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		pool_.invoke(new FillTask(msb, lsb, null, offset, offset + length, taskSize(length)));
+
+		if (sorted) {
+			TimeSort.parallelSort(msb, lsb, offset, offset + length, pool_);
+		}
+	}
+
+	/**
+	 * Fill the array with new UUIDs
+	 * 
+	 * @param uuids
+	 *            the array to fill
+	 * @param sorted
+	 *            sort the array by timestamp after filling
+	 */
+	public void fill(final UUID[] uuids, boolean sorted) {
+		pool_.invoke(new FillTask(null, null, uuids, 0, uuids.length, taskSize(uuids.length)));
+
+		if (sorted) {
+			pool_.invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute() {
+					Arrays.parallelSort(uuids, TimeSort.COMPARATOR);
+				}
+			});
+		}
+	}
+
+	private int taskSize(int length) {
+		return Math.max(MIN_TASK, length / (pool_.getParallelism() * 8));
+	}
+
+	/**
+	 * @return the lane of the current worker
+	 */
+	private DefaultGenerator lane() {
+		Thread thread = Thread.currentThread();
+		if (thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool_) {
+			int index = ((ForkJoinWorkerThread) thread).getPoolIndex();
+			return lanes_[index % (lanes_.length - 1)];
+		}
+		return lanes_[lanes_.length - 1];
+	}
+
+	private class FillTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final long[] msb_;
+		private final long[] lsb_;
+		private final UUID[] uuids_;
+		private final int from_;
+		private final int to_;
+		private final int taskSize_;
+
+		FillTask(long[] msb, long[] lsb, UUID[] uuids, int from, int to, int taskSize) {
+			msb_ = msb;
+			lsb_ = lsb;
+			uuids_ = uuids;
+			from_ = from;
+			to_ = to;
+			taskSize_ = taskSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to_ - from_ > taskSize_) {
+				int mid = (from_ + to_) >>> 1;
+				invokeAll(new FillTask(msb_, lsb_, uuids_, from_, mid, taskSize_),
+						new FillTask(msb_, lsb_, uuids_, mid, to_, taskSize_));
+				return;
+			}
+
+			DefaultGenerator lane = lane();
+			if (uuids_ == null) {
+				for (int i = from_; i < to_; i += BATCH) {
+					lane.next(msb_, lsb_, i, Math.min(BATCH, to_ - i));
+				}
+				return;
+			}
+
+			long[] msb = new long[BATCH];
+			long[] lsb = new long[BATCH];
+			for (int i = from_; i < to_; i += BATCH) {
+				int length = Math.min(BATCH, to_ - i);
+				lane.next(msb, lsb, 0, length);
+				for (int j = 0; j < length; j++) {
+					uuids_[i + j] = new UUID(msb[j], lsb[j]);
+				}
+			}
+		}
+	}
+}
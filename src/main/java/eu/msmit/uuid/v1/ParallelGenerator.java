@@ -18,6 +18,8 @@ package eu.msmit.uuid.v1;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Will rotate between a pool of {@link DefaultGenerator} instances. This will
@@ -27,11 +29,12 @@ import java.util.UUID;
  * @since Mar 25, 2015
  */
 public class ParallelGenerator implements Generator {
-	private static final int DEFAULT_CONCURRENCY = 4;
+	static final int DEFAULT_CONCURRENCY = 4;
 
-	private final Generator[] pool_;
+	private final DefaultGenerator[] pool_;
 	private final int concurrency_;
-	private volatile int pointer_ = 0;
+	private final AtomicInteger pointer_ = new AtomicInteger();
+	private volatile GeneratorMetrics metrics_;
 
 	/**
 	 * Create a new {@link ParallelGenerator} with {@link #DEFAULT_CONCURRENCY}
@@ -47,19 +50,34 @@ public class ParallelGenerator implements Generator {
 	 *            anywhere above zero
 	 */
 	public ParallelGenerator(int concurrency) {
+		this(concurrency, DefaultGenerator::new);
+	}
+
+	/**
+	 * Create a generator with the given concurrency and lanes
+	 * 
+	 * @param concurrency
+	 *            anywhere above zero
+	 * @param lanes
+	 *            creates a generator per lane, each with a distinct node, or
+	 *            a {@link Type7Generator} per lane
+	 */
+	public ParallelGenerator(int concurrency, Supplier<? extends DefaultGenerator> lanes) {
 		if (concurrency <= 0) {
 			throw new IllegalArgumentException();
 		}
 
-		pool_ = new Generator[concurrency];
+		pool_ = new DefaultGenerator[concurrency];
 		concurrency_ = concurrency;
 
 		Set<Long> nodes = new HashSet<Long>();
 		for (int p = 0; p < concurrency; p++) {
 			try {
-				pool_[p] = new DefaultGenerator();
+				pool_[p] = lanes.get();
 
-				if (!nodes.add(pool_[p].next().node())) {
+				// Only version 1 lanes have a node, others differ otherwise
+				UUID probe = pool_[p].next();
+				if (probe.version() == 1 && !nodes.add(probe.node())) {
 					throw new Exception("Duplicate node error in "
 							+ getClass().getSimpleName());
 				}
@@ -69,6 +87,20 @@ public class ParallelGenerator implements Generator {
 		}
 	}
 
+	/**
+	 * Attach metrics to this pool and all of its generators. Create the
+	 * metrics with the concurrency of this pool to count per lane.
+	 * 
+	 * @param metrics
+	 *            the metrics to count in, or null to disable
+	 */
+	public void setMetrics(GeneratorMetrics metrics) {
+		for (DefaultGenerator generator : pool_) {
+			generator.setMetrics(metrics);
+		}
+		metrics_ = metrics;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -76,15 +108,43 @@ public class ParallelGenerator implements Generator {
 	 */
 	@Override
 	public UUID next() {
-		int cur;
+		int cur = nextLane();
 
-		synchronized (this) {
-			cur = pointer_++;
-			if (pointer_ >= concurrency_) {
-				pointer_ = 0;
-			}
+		GeneratorMetrics metrics = metrics_;
+		if (metrics != null) {
+			metrics.issued(cur);
 		}
-
 		return pool_[cur].next();
 	}
+
+	/**
+	 * The batch is generated by a single lane.
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next(long[], long[], int, int)
+	 */
+	@Override
+	public void next(long[] msb, long[] lsb, int offset, int length) {
+		int cur = nextLane();
+
+		GeneratorMetrics metrics = metrics_;
+		if (metrics != null) {
+			metrics.issued(cur, length);
+		}
+		pool_[cur].next(msb, lsb, offset, length);
+	}
+
+	/**
+	 * Every split of the spliterator uses its own lane, so a parallel stream
+	 * scales up to the concurrency of this pool.
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#spliterator(long)
+	 */
+	@Override
+	public GeneratorSpliterator spliterator(long size) {
+		return new GeneratorSpliterator(pool_, nextLane(), size);
+	}
+
+	private int nextLane() {
+		return (pointer_.getAndIncrement() & Integer.MAX_VALUE) % concurrency_;
+	}
 }
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.time.Clock;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Parallel generation under a single node. The 14 bit clock sequence space is
+ * split into disjoint partitions, one per lane. Lanes may use the same
+ * timestamp without coordinating, their UUIDs differ in the clock sequence.
+ * 
+ * Compared to the {@link ParallelGenerator}, this keeps one node per process,
+ * at the cost of a smaller clock sequence range per lane: a lane can handle
+ * (16384 / partitions) backward clock skews before reusing a clock sequence.
+ * 
+ * A thread always uses the same lane, picked by its thread id.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class PartitionedGenerator implements Generator {
+
+	/** Keep at least this many clock sequences per partition **/
+	private static final int MIN_CLOCK_RANGE = 16;
+
+	/** The maximum number of partitions **/
+	static final int MAX_PARTITIONS = (UUIDBits.MAX_CLOCK_SEQUENCE + 1) / MIN_CLOCK_RANGE;
+
+	/** A lane per available processor, rounded up to a power of two **/
+	static final int DEFAULT_PARTITIONS = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+
+	private final DefaultGenerator[] lanes_;
+	private final int mask_;
+
+	/**
+	 * Create a generator with a lane per available processor
+	 */
+	public PartitionedGenerator() {
+		this(new Node(), DEFAULT_PARTITIONS);
+	}
+
+	/**
+	 * @param node
+	 *            the node of all lanes
+	 * @param partitions
+	 *            the number of lanes, a power of two
+	 */
+	public PartitionedGenerator(Node node, int partitions) {
+		this(node, partitions, Clock.systemUTC(), DefaultGenerator.RANDOM);
+	}
+
+	/**
+	 * Create a generator whose lanes have their own time and randomness source
+	 * 
+	 * @see #PartitionedGenerator(Node, int)
+	 * @see DefaultGenerator#DefaultGenerator(Node, Clock, Random)
+	 */
+	public PartitionedGenerator(Node node, int partitions, Clock clock, Random random) {
+		if (partitions <= 0 || partitions > MAX_PARTITIONS || Integer.bitCount(partitions) != 1) {
+			throw new IllegalArgumentException("Partitions must be a power of two up to " + MAX_PARTITIONS);
+		}
+
+		lanes_ = new DefaultGenerator[partitions];
+		mask_ = partitions - 1;
+		for (int p = 0; p < partitions; p++) {
+			lanes_[p] = new DefaultGenerator(node, p, partitions, clock, random);
+		}
+	}
+
+	/**
+	 * @return the lane of the current thread
+	 */
+	private DefaultGenerator lane() {
+		return lanes_[(int) Thread.currentThread().getId() & mask_];
+	}
+
+	/**
+	 * @param partition
+	 *            the partition, from zero
+	 * @return the lane of the partition, all its UUIDs have a clock sequence
+	 *         in the partition
+	 */
+	DefaultGenerator getLane(int partition) {
+		return lanes_[partition];
+	}
+
+	/**
+	 * @return the number of partitions
+	 */
+	public int getPartitions() {
+		return lanes_.length;
+	}
+
+	/**
+	 * Attach metrics to all lanes
+	 * 
+	 * @param metrics
+	 *            the metrics to count in, or null to disable
+	 */
+	public void setMetrics(GeneratorMetrics metrics) {
+		for (DefaultGenerator lane : lanes_) {
+			lane.setMetrics(metrics);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next()
+	 */
+	@Override
+	public UUID next() {
+		return lane().next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next(long[], long[], int, int)
+	 */
+	@Override
+	public void next(long[] msb, long[] lsb, int offset, int length) {
+		lane().next(msb, lsb, offset, length);
+	}
+
+	/**
+	 * Every split of the spliterator uses its own lane.
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#spliterator(long)
+	 */
+	@Override
+	public GeneratorSpliterator spliterator(long size) {
+		return new GeneratorSpliterator(lanes_, (int) Thread.currentThread().getId() & mask_, size);
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.util.UUID;
+
+/**
+ * Maps a UUID to one of a number of partitions, as a router of writes does.
+ * 
+ * @see TargetedGenerator
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+@FunctionalInterface
+public interface Partitioner {
+
+	/**
+	 * @param msb
+	 *            the most significant bits
+	 * @param lsb
+	 *            the least significant bits
+	 * @param partitions
+	 *            the number of partitions
+	 * @return the partition, from zero
+	 */
+	int partition(long msb, long lsb, int partitions);
+
+	/**
+	 * @return the partition of the UUID, from zero
+	 */
+	default int partition(UUID uuid, int partitions) {
+		return partition(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), partitions);
+	}
+
+	/**
+	 * The 32 bit x86 murmur3 hash (seed 0) of the 16 big endian bytes of the
+	 * UUID, made positive and modulo the partitions.
+	 * 
+	 * @return the murmur3 partitioner
+	 */
+	static Partitioner murmur3() {
+		return Partitioners.MURMUR3;
+	}
+
+	/**
+	 * Partitions version 1 UUIDs by the high bits of their clock sequence. For
+	 * a power of two of partitions, up to 1024, {@link TargetedGenerator}
+	 * places UUIDs in their partition without hashing.
+	 * 
+	 * @return the clock sequence partitioner
+	 */
+	static Partitioner clockSequence() {
+		return Partitioners.CLOCK_SEQUENCE;
+	}
+}
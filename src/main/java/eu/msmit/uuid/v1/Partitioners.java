@@ -0,0 +1,75 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+/**
+ * The partitioners known to {@link TargetedGenerator}
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class Partitioners {
+	static final Partitioner MURMUR3 = new Murmur3();
+	static final Partitioner CLOCK_SEQUENCE = new ClockSequence();
+
+	private Partitioners() {
+	}
+
+	static final class Murmur3 implements Partitioner {
+
+		@Override
+		public int partition(long msb, long lsb, int partitions) {
+			return (hash(msb, lsb) & Integer.MAX_VALUE) % partitions;
+		}
+
+		/**
+		 * @return the murmur3 hash of the bytes of {@code new UUID(msb, lsb)}
+		 */
+		static int hash(long msb, long lsb) {
+			int h = 0;
+			h = mix(h, Integer.reverseBytes((int) (msb >>> 32)));
+			h = mix(h, Integer.reverseBytes((int) msb));
+			h = mix(h, Integer.reverseBytes((int) (lsb >>> 32)));
+			h = mix(h, Integer.reverseBytes((int) lsb));
+
+			h ^= 16;
+			h ^= h >>> 16;
+			h *= 0x85ebca6b;
+			h ^= h >>> 13;
+			h *= 0xc2b2ae35;
+			h ^= h >>> 16;
+			return h;
+		}
+
+		private static int mix(int h, int k) {
+			k *= 0xcc9e2d51;
+			k = Integer.rotateLeft(k, 15);
+			k *= 0x1b873593;
+
+			h ^= k;
+			h = Integer.rotateLeft(h, 13);
+			return h * 5 + 0xe6546b64;
+		}
+	}
+
+	static final class ClockSequence implements Partitioner {
+
+		@Override
+		public int partition(long msb, long lsb, int partitions) {
+			return (int) ((long) UUIDBits.clockSequence(lsb) * partitions / (UUIDBits.MAX_CLOCK_SEQUENCE + 1));
+		}
+	}
+}
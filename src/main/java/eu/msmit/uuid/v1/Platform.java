@@ -0,0 +1,39 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+/**
+ * Java 8 implementation of the platform specific parts. Newer JVMs load the
+ * variant in <code>META-INF/versions</code> of the multi-release jar instead.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class Platform {
+
+	private Platform() {
+	}
+
+	/**
+	 * Called in a loop while waiting for the clock to move
+	 * 
+	 * @param spins
+	 *            the number of times called before in this loop
+	 */
+	static void onSpinWait(int spins) {
+		Thread.yield();
+	}
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.io.Closeable;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decorates a {@link Generator} with a bounded ring buffer of UUIDs, filled in
+ * batches by a background thread. Callers take from the buffer without
+ * locking (any number of consumers) and only call the decorated generator
+ * directly when the buffer ran empty.
+ * 
+ * Note that a UUID carries the time it was generated, not the time it was
+ * taken from the buffer. With a busy buffer the difference is small, an idle
+ * buffer holds UUIDs until they are used.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class PrefetchingGenerator implements Generator, Closeable {
+	private static final int DEFAULT_CAPACITY = 4096;
+	private static final int DEFAULT_BATCH = 256;
+
+	/** Maximum time the producer sleeps when the buffer is full **/
+	private static final long PARK_NANOS = 1000000L;
+
+	private final Generator generator_;
+	private final AtomicReferenceArray<UUID> slots_;
+	private final int mask_;
+	private final int batch_;
+	private final int lowWater_;
+
+	/** Next position to take, moved by consumers **/
+	private final AtomicLong head_ = new AtomicLong();
+
+	/** Next position to fill, only moved by the producer **/
+	private final AtomicLong tail_ = new AtomicLong();
+
+	private final LongAdder underflows_ = new LongAdder();
+	private final Thread producer_;
+	private volatile boolean running_ = true;
+	private volatile boolean sleeping_;
+
+	/**
+	 * Create a prefetching generator with a capacity of
+	 * {@link #DEFAULT_CAPACITY}
+	 * 
+	 * @param generator
+	 *            the generator to prefetch from
+	 */
+	public PrefetchingGenerator(Generator generator) {
+		this(generator, DEFAULT_CAPACITY, DEFAULT_BATCH);
+	}
+
+	/**
+	 * @param generator
+	 *            the generator to prefetch from, must be thread safe
+	 * @param capacity
+	 *            the size of the buffer, a power of two
+	 * @param batch
+	 *            the number of UUIDs to generate per refill, at most the
+	 *            capacity
+	 */
+	public PrefetchingGenerator(Generator generator, int capacity, int batch) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a power of two");
+		}
+		if (batch <= 0 || batch > capacity) {
+			throw new IllegalArgumentException("Batch must be between 1 and the capacity");
+		}
+
+		generator_ = generator;
+		slots_ = new AtomicReferenceArray<>(capacity);
+		mask_ = capacity - 1;
+		batch_ = batch;
+		// Wake the producer only once a whole batch fits
+		lowWater_ = Math.min(capacity >>> 1, capacity - batch);
+
+		producer_ = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				fill();
+			}
+		}, getClass().getSimpleName());
+		producer_.setDaemon(true);
+		producer_.start();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next()
+	 */
+	@Override
+	public UUID next() {
+		for (;;) {
+			long head = head_.get();
+			long tail = tail_.get();
+
+			if (head >= tail) {
+				underflows_.increment();
+				wakeProducer();
+				return generator_.next();
+			}
+
+			// The producer only overwrites this slot after head moved past it,
+			// in which case the CAS fails and we retry.
+			UUID uuid = slots_.get((int) head & mask_);
+			if (head_.compareAndSet(head, head + 1)) {
+				if (tail - head <= lowWater_) {
+					wakeProducer();
+				}
+				return uuid;
+			}
+		}
+	}
+
+	private void wakeProducer() {
+		if (sleeping_) {
+			LockSupport.unpark(producer_);
+		}
+	}
+
+	private void fill() {
+		while (running_) {
+			long tail = tail_.get();
+			long free = slots_.length() - (tail - head_.get());
+
+			if (free >= batch_) {
+				for (int i = 0; i < batch_; i++) {
+					slots_.lazySet((int) (tail + i) & mask_, generator_.next());
+				}
+				tail_.lazySet(tail + batch_);
+				continue;
+			}
+
+			sleeping_ = true;
+			if (running_ && slots_.length() - getFillLevel() < batch_) {
+				LockSupport.parkNanos(this, PARK_NANOS);
+			}
+			sleeping_ = false;
+		}
+	}
+
+	/**
+	 * @return the number of UUIDs currently buffered
+	 */
+	public int getFillLevel() {
+		return (int) Math.max(0, tail_.get() - head_.get());
+	}
+
+	/**
+	 * @return the capacity of the buffer
+	 */
+	public int getCapacity() {
+		return slots_.length();
+	}
+
+	/**
+	 * @return the number of times a caller found the buffer empty and
+	 *         generated directly
+	 */
+	public long getUnderflows() {
+		return underflows_.sum();
+	}
+
+	/**
+	 * Stop the background thread. Calls to {@link #next()} keep working, they
+	 * drain the buffer and then generate directly.
+	 */
+	@Override
+	public void close() {
+		running_ = false;
+		LockSupport.unpark(producer_);
+		try {
+			producer_.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,393 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Generates UUIDs that a {@link Partitioner} maps to a requested partition,
+ * so a producer can pick a local shard and get an ID routed to it.
+ * 
+ * For {@link Partitioner#clockSequence()} with a power of two of partitions,
+ * up to 1024, every partition has a lane of a {@link PartitionedGenerator}
+ * whose clock sequences all fall in that partition, so no UUID is wasted.
+ * 
+ * Other partitioners are served by rejection sampling: batches are generated,
+ * the UUIDs of the requested partition are returned and the others are kept
+ * in a bounded buffer per partition for later calls. When a buffer is full,
+ * its oldest UUIDs are discarded. With an even demand over the partitions
+ * almost every UUID is used, a single hot partition costs about one batch
+ * UUID per partition for each UUID returned. Buffered UUIDs can be older than
+ * the call that returns them. When many batches in a row have no UUID for the
+ * partition, an {@link IllegalStateException} is thrown.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TargetedGenerator {
+
+	/** Minimum number of UUIDs generated per sampling round **/
+	private static final int BATCH = 512;
+
+	/** Give up after this many rounds without a UUID of the partition **/
+	private static final int MAX_MISSES = 64;
+
+	/** Number of UUIDs kept per partition **/
+	private static final int CAPACITY = 256;
+
+	/** Lanes of the sampled generator, a lane per available processor **/
+	private static final int DEFAULT_LANES = Integer
+			.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+
+	private final Partitioner partitioner_;
+	private final int partitions_;
+	private final PartitionedGenerator placed_;
+	private final Generator source_;
+	private final Buffer[] buffers_;
+	private final ThreadLocal<Scratch> scratch_;
+	private final LongAdder generated_ = new LongAdder();
+	private final LongAdder discarded_ = new LongAdder();
+
+	/**
+	 * @param partitioner
+	 *            maps UUIDs to partitions
+	 * @param partitions
+	 *            the number of partitions
+	 */
+	public TargetedGenerator(Partitioner partitioner, int partitions) {
+		this(new Node(), partitioner, partitions);
+	}
+
+	/**
+	 * Create a generator that places UUIDs in their partition when the
+	 * partitioner allows, and samples from a {@link PartitionedGenerator}
+	 * otherwise
+	 * 
+	 * @param node
+	 *            the node of all UUIDs
+	 * @param partitioner
+	 *            maps UUIDs to partitions
+	 * @param partitions
+	 *            the number of partitions
+	 */
+	public TargetedGenerator(Node node, Partitioner partitioner, int partitions) {
+		this(placeable(partitioner, partitions) ? new PartitionedGenerator(node, partitions)
+				: new PartitionedGenerator(node, DEFAULT_LANES), partitioner, partitions,
+				placeable(partitioner, partitions));
+	}
+
+	/**
+	 * Create a generator that samples the UUIDs of the given source
+	 * 
+	 * @param source
+	 *            the generator to sample from
+	 * @param partitioner
+	 *            maps UUIDs to partitions
+	 * @param partitions
+	 *            the number of partitions
+	 */
+	public TargetedGenerator(Generator source, Partitioner partitioner, int partitions) {
+		this(source, partitioner, partitions, false);
+	}
+
+	private TargetedGenerator(Generator source, Partitioner partitioner, int partitions, boolean placed) {
+		if (partitions <= 0) {
+			throw new IllegalArgumentException("Partitions must be above zero");
+		}
+
+		partitioner_ = partitioner;
+		partitions_ = partitions;
+
+		if (placed) {
+			placed_ = (PartitionedGenerator) source;
+			source_ = null;
+			buffers_ = null;
+			scratch_ = null;
+		} else {
+			placed_ = null;
+			source_ = source;
+			buffers_ = new Buffer[partitions];
+			for (int p = 0; p < partitions; p++) {
+				buffers_[p] = new Buffer();
+			}
+			scratch_ = ThreadLocal.withInitial(() -> new Scratch(Math.max(BATCH, partitions), partitions));
+		}
+	}
+
+	private static boolean placeable(Partitioner partitioner, int partitions) {
+		return partitioner == Partitioners.CLOCK_SEQUENCE && partitions > 0
+				&& partitions <= PartitionedGenerator.MAX_PARTITIONS && Integer.bitCount(partitions) == 1;
+	}
+
+	/**
+	 * @param partition
+	 *            the partition, from zero
+	 * @return a new UUID in the partition
+	 */
+	public UUID next(int partition) {
+		checkPartition(partition);
+
+		if (placed_ != null) {
+			return placed_.getLane(partition).next();
+		}
+
+		Scratch scratch = scratch_.get();
+		sample(partition, scratch.oneMsb_, scratch.oneLsb_, 0, 1);
+		return new UUID(scratch.oneMsb_[0], scratch.oneLsb_[0]);
+	}
+
+	/**
+	 * Generate UUIDs in the partition into the given arrays
+	 * 
+	 * @param partition
+	 *            the partition, from zero
+	 * @param msb
+	 *            receives the most significant bits
+	 * @param lsb
+	 *            receives the least significant bits
+	 * @param offset
+	 *            the first index to fill
+	 * @param length
+	 *            the number of UUIDs to generate
+	 */
+	public void next(int partition, long[] msb, long[] lsb, int offset, int length) {
+		checkPartition(partition);
+		if (offset < 0 || length < 0 || offset + length > msb.length || offset + length > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		if (placed_ != null) {
+			placed_.getLane(partition).next(msb, lsb, offset, length);
+		} else {
+			sample(partition, msb, lsb, offset, length);
+		}
+	}
+
+	/**
+	 * @param partition
+	 *            the partition, from zero
+	 * @return a generator of UUIDs in the partition
+	 */
+	public Generator forPartition(int partition) {
+		checkPartition(partition);
+
+		if (placed_ != null) {
+			return placed_.getLane(partition);
+		}
+		return new Generator() {
+			@Override
+			public UUID next() {
+				return TargetedGenerator.this.next(partition);
+			}
+
+			@Override
+			public void next(long[] msb, long[] lsb, int offset, int length) {
+				TargetedGenerator.this.next(partition, msb, lsb, offset, length);
+			}
+		};
+	}
+
+	/**
+	 * Fill the arrays from the buffer of the partition, then from new batches
+	 */
+	private void sample(int partition, long[] msb, long[] lsb, int offset, int length) {
+		int filled = buffers_[partition].poll(msb, lsb, offset, length);
+
+		if (filled < length) {
+			Scratch scratch = scratch_.get();
+			long[] bmsb = scratch.msb_;
+			long[] blsb = scratch.lsb_;
+			int[] target = scratch.target_;
+			int[] count = scratch.count_;
+
+			for (int misses = 0; filled < length;) {
+				int before = filled;
+				source_.next(bmsb, blsb, 0, bmsb.length);
+				generated_.add(bmsb.length);
+				Arrays.fill(count, 0);
+
+				for (int i = 0; i < bmsb.length; i++) {
+					int p = partitioner_.partition(bmsb[i], blsb[i], partitions_);
+					if (p == partition && filled < length) {
+						msb[offset + filled] = bmsb[i];
+						lsb[offset + filled] = blsb[i];
+						filled++;
+						target[i] = -1;
+					} else {
+						target[i] = p;
+						count[p]++;
+					}
+				}
+
+				distribute(scratch);
+
+				if (filled == before && ++misses == MAX_MISSES) {
+					throw new IllegalStateException("The partitioner maps no UUIDs of the generator to partition "
+							+ partition);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Move the UUIDs of the scratch batch to the buffers of their partitions,
+	 * grouped so every buffer is locked once
+	 */
+	private void distribute(Scratch scratch) {
+		int[] target = scratch.target_;
+		int[] count = scratch.count_;
+		int[] order = scratch.order_;
+
+		// Turn the counts into start positions
+		int start = 0;
+		for (int p = 0; p < partitions_; p++) {
+			int c = count[p];
+			count[p] = start;
+			start += c;
+		}
+		int total = start;
+
+		for (int i = 0; i < target.length; i++) {
+			if (target[i] >= 0) {
+				order[count[target[i]]++] = i;
+			}
+		}
+
+		// count[p] is now the end of partition p
+		int from = 0;
+		for (int p = 0; p < partitions_ && from < total; p++) {
+			int to = count[p];
+			if (to > from) {
+				discarded_.add(buffers_[p].offer(scratch.msb_, scratch.lsb_, order, from, to));
+			}
+			from = to;
+		}
+	}
+
+	private void checkPartition(int partition) {
+		if (partition < 0 || partition >= partitions_) {
+			throw new IllegalArgumentException("Partition out of range");
+		}
+	}
+
+	/**
+	 * @return the number of partitions
+	 */
+	public int getPartitions() {
+		return partitions_;
+	}
+
+	/**
+	 * @return true when UUIDs are placed in their partition, without sampling
+	 */
+	public boolean isPlaced() {
+		return placed_ != null;
+	}
+
+	/**
+	 * @return the number of UUIDs generated for sampling
+	 */
+	public long getGenerated() {
+		return generated_.sum();
+	}
+
+	/**
+	 * @return the number of sampled UUIDs dropped from a full buffer
+	 */
+	public long getDiscarded() {
+		return discarded_.sum();
+	}
+
+	/**
+	 * The UUIDs waiting for a partition, oldest first
+	 */
+	private static final class Buffer {
+		private final ReentrantLock lock_ = new ReentrantLock();
+		private final long[] msb_ = new long[CAPACITY];
+		private final long[] lsb_ = new long[CAPACITY];
+		private int head_;
+		private int size_;
+
+		/**
+		 * @return the number of UUIDs moved to the arrays
+		 */
+		int poll(long[] msb, long[] lsb, int offset, int length) {
+			lock_.lock();
+			try {
+				int n = Math.min(size_, length);
+				for (int i = 0; i < n; i++) {
+					msb[offset + i] = msb_[head_];
+					lsb[offset + i] = lsb_[head_];
+					head_ = (head_ + 1) & (CAPACITY - 1);
+				}
+				size_ -= n;
+				return n;
+			} finally {
+				lock_.unlock();
+			}
+		}
+
+		/**
+		 * @return the number of UUIDs discarded to make room
+		 */
+		int offer(long[] msb, long[] lsb, int[] order, int from, int to) {
+			int discarded = 0;
+
+			lock_.lock();
+			try {
+				for (int i = from; i < to; i++) {
+					int tail = (head_ + size_) & (CAPACITY - 1);
+					msb_[tail] = msb[order[i]];
+					lsb_[tail] = lsb[order[i]];
+
+					if (size_ == CAPACITY) {
+						head_ = (head_ + 1) & (CAPACITY - 1);
+						discarded++;
+					} else {
+						size_++;
+					}
+				}
+			} finally {
+				lock_.unlock();
+			}
+			return discarded;
+		}
+	}
+
+	/**
+	 * Per thread arrays for sampling
+	 */
+	private static final class Scratch {
+		private final long[] oneMsb_ = new long[1];
+		private final long[] oneLsb_ = new long[1];
+		private final long[] msb_;
+		private final long[] lsb_;
+		private final int[] target_;
+		private final int[] order_;
+		private final int[] count_;
+
+		Scratch(int batch, int partitions) {
+			msb_ = new long[batch];
+			lsb_ = new long[batch];
+			target_ = new int[batch];
+			order_ = new int[batch];
+			count_ = new int[partitions];
+		}
+	}
+}
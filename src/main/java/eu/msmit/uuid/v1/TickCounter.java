@@ -0,0 +1,99 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.util.Arrays;
+
+/**
+ * Counts the ticks used per millisecond, in an open addressing hash table of
+ * primitive keys and counts. Not thread safe.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class TickCounter {
+	private static final long FREE = Long.MIN_VALUE;
+
+	private long[] keys_;
+	private int[] counts_;
+	private int mask_;
+	private int size_;
+
+	/** Cache of the last slot, sorted input hits it every time **/
+	private int last_ = -1;
+
+	TickCounter(int expected) {
+		allocate(Integer.highestOneBit(Math.max(16, expected) * 2 - 1) << 1);
+	}
+
+	/**
+	 * @param millis
+	 *            the millisecond, not {@link Long#MIN_VALUE}
+	 * @return the number of ticks used before, and count one more
+	 */
+	int getAndIncrement(long millis) {
+		if (last_ >= 0 && keys_[last_] == millis) {
+			return counts_[last_]++;
+		}
+
+		if (size_ >= (mask_ + 1) >>> 1) {
+			grow();
+		}
+
+		int slot = slot(millis);
+		if (keys_[slot] == FREE) {
+			keys_[slot] = millis;
+			size_++;
+		}
+		last_ = slot;
+		return counts_[slot]++;
+	}
+
+	int size() {
+		return size_;
+	}
+
+	private int slot(long millis) {
+		long h = millis * 0x9E3779B97F4A7C15L;
+		int slot = (int) (h ^ (h >>> 32)) & mask_;
+		while (keys_[slot] != FREE && keys_[slot] != millis) {
+			slot = (slot + 1) & mask_;
+		}
+		return slot;
+	}
+
+	private void grow() {
+		long[] keys = keys_;
+		int[] counts = counts_;
+
+		allocate(keys.length << 1);
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != FREE) {
+				int slot = slot(keys[i]);
+				keys_[slot] = keys[i];
+				counts_[slot] = counts[i];
+			}
+		}
+		last_ = -1;
+	}
+
+	private void allocate(int capacity) {
+		keys_ = new long[capacity];
+		counts_ = new int[capacity];
+		Arrays.fill(keys_, FREE);
+		mask_ = capacity - 1;
+	}
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts version 1 UUIDs, stored as primitive most and least significant bits
+ * in two arrays, by timestamp. UUIDs with equal timestamps are ordered by
+ * their bits. The sort is a merge sort that skips merging runs which are
+ * already in order, which is the common case for UUIDs of one generator.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public final class TimeSort {
+
+	/** Orders version 1 UUIDs the same way as this sort **/
+	public static final Comparator<UUID> COMPARATOR = new Comparator<UUID>() {
+		@Override
+		public int compare(UUID o1, UUID o2) {
+			return TimeSort.compare(o1.getMostSignificantBits(), o1.getLeastSignificantBits(),
+					o2.getMostSignificantBits(), o2.getLeastSignificantBits());
+		}
+	};
+
+	/** Below this size, insertion sort is used **/
+	private static final int INSERTION_SORT = 32;
+
+	/** Below this size, a parallel sort continues sequentially **/
+	private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	private TimeSort() {
+	}
+
+	/**
+	 * Compare two version 1 UUIDs by timestamp, then by their bits
+	 */
+	public static int compare(long msb1, long lsb1, long msb2, long lsb2) {
+		int diff = Long.compare(UUIDBits.timestamp(msb1), UUIDBits.timestamp(msb2));
+		if (diff == 0) {
+			diff = Long.compare(msb1, msb2);
+		}
+		if (diff == 0) {
+			diff = Long.compare(lsb1, lsb2);
+		}
+		return diff;
+	}
+
+	/**
+	 * Sort the range [from, to) of both arrays
+	 */
+	public static void sort(long[] msb, long[] lsb, int from, int to) {
+		checkRange(msb, lsb, from, to);
+		long[] tmpMsb = new long[to - from];
+		long[] tmpLsb = new long[to - from];
+		sort(msb, lsb, tmpMsb, tmpLsb, from, to, from);
+	}
+
+	/**
+	 * Sort the range [from, to) of both arrays, using the given pool
+	 */
+	public static void parallelSort(long[] msb, long[] lsb, int from, int to, ForkJoinPool pool) {
+		checkRange(msb, lsb, from, to);
+		long[] tmpMsb = new long[to - from];
+		long[] tmpLsb = new long[to - from];
+		pool.invoke(new SortTask(msb, lsb, tmpMsb, tmpLsb, from, to, from));
+	}
+
+	private static void checkRange(long[] msb, long[] lsb, int from, int to) {
+		if (from < 0 || from > to || to > msb.length || to > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+	}
+
+	/**
+	 * Sort [from, to), using the tmp arrays starting at index base as buffer
+	 */
+	private static void sort(long[] msb, long[] lsb, long[] tmpMsb, long[] tmpLsb, int from, int to, int base) {
+		if (to - from <= INSERTION_SORT) {
+			insertionSort(msb, lsb, from, to);
+			return;
+		}
+
+		int mid = (from + to) >>> 1;
+		sort(msb, lsb, tmpMsb, tmpLsb, from, mid, base);
+		sort(msb, lsb, tmpMsb, tmpLsb, mid, to, base);
+		merge(msb, lsb, tmpMsb, tmpLsb, from, mid, to, base);
+	}
+
+	private static void insertionSort(long[] msb, long[] lsb, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			long m = msb[i];
+			long l = lsb[i];
+			int j = i - 1;
+			while (j >= from && compare(msb[j], lsb[j], m, l) > 0) {
+				msb[j + 1] = msb[j];
+				lsb[j + 1] = lsb[j];
+				j--;
+			}
+			msb[j + 1] = m;
+			lsb[j + 1] = l;
+		}
+	}
+
+	private static void merge(long[] msb, long[] lsb, long[] tmpMsb, long[] tmpLsb, int from, int mid, int to,
+			int base) {
+		// Already in order
+		if (compare(msb[mid - 1], lsb[mid - 1], msb[mid], lsb[mid]) <= 0) {
+			return;
+		}
+
+		int length = mid - from;
+		System.arraycopy(msb, from, tmpMsb, from - base, length);
+		System.arraycopy(lsb, from, tmpLsb, from - base, length);
+
+		int left = from - base;
+		int leftEnd = left + length;
+		int right = mid;
+		int out = from;
+
+		while (left < leftEnd && right < to) {
+			if (compare(tmpMsb[left], tmpLsb[left], msb[right], lsb[right]) <= 0) {
+				msb[out] = tmpMsb[left];
+				lsb[out++] = tmpLsb[left++];
+			} else {
+				msb[out] = msb[right];
+				lsb[out++] = lsb[right++];
+			}
+		}
+
+		System.arraycopy(tmpMsb, left, msb, out, leftEnd - left);
+		System.arraycopy(tmpLsb, left, lsb, out, leftEnd - left);
+	}
+
+	private static class SortTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final long[] msb_;
+		private final long[] lsb_;
+		private final long[] tmpMsb_;
+		private final long[] tmpLsb_;
+		private final int from_;
+		private final int to_;
+		private final int base_;
+
+		SortTask(long[] msb, long[] lsb, long[] tmpMsb, long[] tmpLsb, int from, int to, int base) {
+			msb_ = msb;
+			lsb_ = lsb;
+			tmpMsb_ = tmpMsb;
+			tmpLsb_ = tmpLsb;
+			from_ = from;
+			to_ = to;
+			base_ = base;
+		}
+
+		@Override
+		protected void compute() {
+			if (to_ - from_ <= PARALLEL_THRESHOLD) {
+				sort(msb_, lsb_, tmpMsb_, tmpLsb_, from_, to_, base_);
+				return;
+			}
+
+			int mid = (from_ + to_) >>> 1;
+			invokeAll(new SortTask(msb_, lsb_, tmpMsb_, tmpLsb_, from_, mid, base_),
+					new SortTask(msb_, lsb_, tmpMsb_, tmpLsb_, mid, to_, base_));
+			merge(msb_, lsb_, tmpMsb_, tmpLsb_, from_, mid, to_, base_);
+		}
+	}
+}
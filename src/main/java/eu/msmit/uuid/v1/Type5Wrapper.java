@@ -38,7 +38,12 @@ public class Type5Wrapper extends DigestWrapper {
 		return new Generator() {
 			@Override
 			public UUID next() {
-				return wrap(generator.next());
+				return wrapNext(generator);
+			}
+
+			@Override
+			public void next(long[] msb, long[] lsb, int offset, int length) {
+				wrapNext(generator, msb, lsb, offset, length);
 			}
 		};
 	}
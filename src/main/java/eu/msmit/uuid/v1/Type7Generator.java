@@ -0,0 +1,98 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.time.Clock;
+import java.util.Random;
+
+/**
+ * Generates time ordered version 7 UUIDs (RFC 9562): 48 bits of Unix
+ * milliseconds, followed by a counter and random bits. There is no node.
+ * 
+ * The timestamps are those of the {@link HybridClockGenerator}: when the
+ * clock goes back, or a millisecond runs out of ticks, the timestamp advances
+ * one tick per UUID from the last one. The tick within the millisecond (0 -
+ * 9999) is the counter, stored in the 12 bits of rand_a and the first 2 bits
+ * of rand_b. UUIDs of one generator therefore sort in the order they were
+ * created, even through clock steps.
+ * 
+ * The remaining 60 bits are random, drawn from a per generator key mixed with
+ * the timestamp in the way of {@link java.util.SplittableRandom}. This needs
+ * no shared state, so it is fast and safe outside the lock. Pool these in a
+ * {@link ParallelGenerator} with {@code new ParallelGenerator(n,
+ * Type7Generator::new)}, every lane has its own key.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class Type7Generator extends HybridClockGenerator {
+
+	/** The odd increment of {@link java.util.SplittableRandom} **/
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private final long key_;
+
+	public Type7Generator() {
+		this(Clock.systemUTC(), RANDOM);
+	}
+
+	/**
+	 * @param clock
+	 *            the wall clock, only its milliseconds are used
+	 * @param random
+	 *            the source of the key, shared with other generators it must
+	 *            be thread safe
+	 */
+	public Type7Generator(Clock clock, Random random) {
+		super(Node.NONE, clock, random);
+		key_ = random.nextLong();
+	}
+
+	/**
+	 * @return the Unix milliseconds, version and high bits of the tick
+	 */
+	@Override
+	protected long msb(long timestamp, long node, int clock) {
+		long millis = UUIDBits.millis(timestamp) & 0xFFFFFFFFFFFFL;
+		long tick = Math.floorMod(timestamp, UUIDBits.TICKS_PER_MS);
+		return millis << 16 | 0x7000L | tick >>> 2;
+	}
+
+	/**
+	 * @return the variant, low bits of the tick and random bits
+	 */
+	@Override
+	protected long lsb(long timestamp, long node, int clock) {
+		long tick = Math.floorMod(timestamp, UUIDBits.TICKS_PER_MS);
+		return 0x8000000000000000L | (tick & 3L) << 60 | mix64(key_ + timestamp * GOLDEN_GAMMA) >>> 4;
+	}
+
+	/**
+	 * @return the Unix milliseconds of a version 7 UUID
+	 */
+	public static long millis(long msb) {
+		return msb >>> 16;
+	}
+
+	/**
+	 * The output function of {@link java.util.SplittableRandom}
+	 */
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.util.UUID;
+
+/**
+ * Reads and writes the fields of a version 1 {@link UUID} in its primitive
+ * most and least significant bits, without creating UUID instances.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public final class UUIDBits {
+
+	/** The maximum clock sequence **/
+	public static final int MAX_CLOCK_SEQUENCE = 0x3FFF;
+
+	/** The maximum node value **/
+	public static final long MAX_NODE = 0xFFFFFFFFFFFFL;
+
+	/** The number of 100ns timestamp ticks per millisecond **/
+	public static final long TICKS_PER_MS = 10000L;
+
+	/** Milliseconds from 15-oct-1582, the UUID epoch, to 1-jan-1970 **/
+	public static final long UUID_EPOCH_TO_UTC_EPOCH_MS = 0xB1D069B5400L;
+
+	private UUIDBits() {
+	}
+
+	/**
+	 * @param timestamp
+	 *            the 60 bit timestamp, in 100ns since 15-oct-1582
+	 * @return the most significant bits of a version 1 UUID
+	 */
+	public static long msb(long timestamp) {
+		long timeLow = timestamp & 0xFFFFFFFFL;
+		long timeMid = timestamp >>> 32 & 0xFFFFL;
+		long timeHiAndVer = (timestamp >>> 48 & 0xFFFL) | 0x1000L;
+		return (timeLow << 32) | (timeMid << 16) | (timeHiAndVer);
+	}
+
+	/**
+	 * @param clock
+	 *            the clock sequence, only the lower 14 bits are used
+	 * @param node
+	 *            the node, only the lower 48 bits are used
+	 * @return the least significant bits of an IETF variant UUID
+	 */
+	public static long lsb(int clock, long node) {
+		long lsb = 0x8000000000000000L;
+		lsb |= (clock & (long) MAX_CLOCK_SEQUENCE) << 48;
+		lsb |= node & MAX_NODE;
+		return lsb;
+	}
+
+	/**
+	 * @param millis
+	 *            milliseconds since 1-jan-1970
+	 * @return the first timestamp of that millisecond
+	 */
+	public static long ticks(long millis) {
+		return (UUID_EPOCH_TO_UTC_EPOCH_MS + millis) * TICKS_PER_MS;
+	}
+
+	/**
+	 * @param timestamp
+	 *            a timestamp
+	 * @return the milliseconds since 1-jan-1970 of the timestamp
+	 */
+	public static long millis(long timestamp) {
+		return Math.floorDiv(timestamp, TICKS_PER_MS) - UUID_EPOCH_TO_UTC_EPOCH_MS;
+	}
+
+	/**
+	 * @return the timestamp of a version 1 UUID, equal to
+	 *         {@link UUID#timestamp()}
+	 */
+	public static long timestamp(long msb) {
+		return (msb & 0x0FFFL) << 48 | ((msb >>> 16) & 0xFFFFL) << 32 | msb >>> 32;
+	}
+
+	/**
+	 * @return the clock sequence, equal to {@link UUID#clockSequence()}
+	 */
+	public static int clockSequence(long lsb) {
+		return (int) ((lsb & 0x3FFF000000000000L) >>> 48);
+	}
+
+	/**
+	 * @return the node, equal to {@link UUID#node()}
+	 */
+	public static long node(long lsb) {
+		return lsb & MAX_NODE;
+	}
+
+	/**
+	 * @return the version number, equal to {@link UUID#version()}
+	 */
+	public static int version(long msb) {
+		return (int) ((msb >> 12) & 0x0f);
+	}
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+/**
+ * Receives UUIDs as primitive most and least significant bits, so bulk
+ * generation does not need to create {@link java.util.UUID} instances.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+@FunctionalInterface
+public interface UUIDSink {
+
+	/**
+	 * @param msb
+	 *            the most significant bits
+	 * @param lsb
+	 *            the least significant bits
+	 */
+	void accept(long msb, long lsb);
+}
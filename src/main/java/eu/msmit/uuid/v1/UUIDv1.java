@@ -15,8 +15,6 @@
  */
 package eu.msmit.uuid.v1;
 
-import java.util.Iterator;
-import java.util.ServiceLoader;
 import java.util.UUID;
 
 /**
@@ -29,6 +27,9 @@ import java.util.UUID;
  * For example the {@link ParallelGenerator} will provide unprecedented speed
  * with a theoretical 25ns per UUID.
  * 
+ * The generators are configured by {@link GeneratorConfig}, each is created on
+ * first use.
+ * 
  * For this implementation, 'system' is considered to be a Java process with a
  * Generator instance. Shared stable store would be process memory in this case.
  * 
@@ -64,30 +65,32 @@ import java.util.UUID;
  * @since Mar 25, 2015
  */
 public class UUIDv1 {
-	private static final Generator GENERATOR;
-	private static final Generator TYPE3_GENERATOR;
-	private static final Generator TYPE5_GENERATOR;
 
-	static {
-		ServiceLoader<Generator> serviceLoader = ServiceLoader.load(Generator.class);
-		Iterator<Generator> it = serviceLoader.iterator();
+	/**
+	 * Each generator is created on first use, by the class loader. A wrapper
+	 * with a generator of its own does not create the shared one.
+	 */
+	private static final class Config {
+		static final GeneratorConfig CONFIG = GeneratorConfig.load();
+	}
 
-		Generator generator = it.hasNext() ? it.next() : null;
+	private static final class Holder {
+		static final Generator GENERATOR = Config.CONFIG.create();
+	}
 
-		if (generator == null) {
-			generator = new ParallelGenerator();
-		}
+	private static final class Type3Holder {
+		static final Generator GENERATOR = Config.CONFIG.createWrapper(3, () -> Holder.GENERATOR);
+	}
 
-		GENERATOR = generator;
-		TYPE3_GENERATOR = new Type3Wrapper().wrap(generator);
-		TYPE5_GENERATOR = new Type5Wrapper().wrap(generator);
+	private static final class Type5Holder {
+		static final Generator GENERATOR = Config.CONFIG.createWrapper(5, () -> Holder.GENERATOR);
 	}
 
 	/**
 	 * @return the system generator
 	 */
 	public static Generator getGenerator() {
-		return GENERATOR;
+		return Holder.GENERATOR;
 	}
 
 	/**
@@ -95,7 +98,7 @@ public class UUIDv1 {
 	 *         would be the {@link ParallelGenerator}
 	 */
 	public static UUID next() {
-		return GENERATOR.next();
+		return Holder.GENERATOR.next();
 	}
 
 	/**
@@ -103,7 +106,7 @@ public class UUIDv1 {
 	 *         hashed and then outputted as a version 3 UUID;
 	 */
 	public static UUID nextv3() {
-		return TYPE3_GENERATOR.next();
+		return Type3Holder.GENERATOR.next();
 	}
 
 	/**
@@ -111,7 +114,7 @@ public class UUIDv1 {
 	 *         hashed and then outputted as a version 5 UUID;
 	 */
 	public static UUID nextv5() {
-		return TYPE5_GENERATOR.next();
+		return Type5Holder.GENERATOR.next();
 	}
 
 }
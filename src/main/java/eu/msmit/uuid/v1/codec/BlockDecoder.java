@@ -0,0 +1,151 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import eu.msmit.uuid.v1.UUIDBits;
+
+/**
+ * Decodes a block written by the {@link BlockEncoder} into primitive arrays,
+ * a chunk at a time. The block is read straight from the buffer, only the
+ * node dictionary is held in memory.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class BlockDecoder {
+	private final ByteBuffer buf_;
+	private final long[] nodes_;
+	private final int count_;
+	private int groups_;
+	private int read_;
+
+	/** State of the current group **/
+	private long lsb_;
+	private long timestamp_;
+	private int left_;
+
+	/**
+	 * @param block
+	 *            the block, read from its position. The buffer is read by this
+	 *            decoder, pass a duplicate to keep its position.
+	 * @throws IllegalArgumentException
+	 *             when the block is malformed
+	 */
+	public BlockDecoder(ByteBuffer block) {
+		buf_ = block;
+		try {
+			BlockFormat.checkHeader(buf_);
+			count_ = BlockFormat.getCount(buf_);
+
+			nodes_ = new long[BlockFormat.getCount(buf_)];
+			for (int n = 0; n < nodes_.length; n++) {
+				nodes_[n] = BlockFormat.getNode(buf_);
+			}
+
+			groups_ = BlockFormat.getCount(buf_);
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Truncated block", e);
+		}
+	}
+
+	/**
+	 * @param block
+	 *            the block
+	 */
+	public BlockDecoder(byte[] block) {
+		this(ByteBuffer.wrap(block));
+	}
+
+	/**
+	 * @return the number of UUIDs in the block
+	 */
+	public int size() {
+		return count_;
+	}
+
+	/**
+	 * @return the number of UUIDs not read yet
+	 */
+	public int remaining() {
+		return count_ - read_;
+	}
+
+	/**
+	 * Read the next UUIDs of the block
+	 * 
+	 * @param msb
+	 *            receives the most significant bits
+	 * @param lsb
+	 *            receives the least significant bits
+	 * @param offset
+	 *            the first index to fill
+	 * @param length
+	 *            the maximum number of UUIDs to read
+	 * @return the number of UUIDs read, or -1 at the end of the block
+	 * @throws IllegalArgumentException
+	 *             when the block is malformed
+	 */
+	public int read(long[] msb, long[] lsb, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > msb.length || offset + length > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (read_ == count_) {
+			return -1;
+		}
+
+		try {
+			int n = 0;
+			while (n < length && read_ < count_) {
+				if (left_ == 0) {
+					nextGroup();
+					msb[offset + n] = UUIDBits.msb(timestamp_);
+				} else {
+					timestamp_ += BlockFormat.getVarint(buf_);
+					msb[offset + n] = UUIDBits.msb(timestamp_);
+				}
+				lsb[offset + n] = lsb_;
+				left_--;
+				read_++;
+				n++;
+			}
+			return n;
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Truncated block", e);
+		}
+	}
+
+	private void nextGroup() {
+		if (groups_-- == 0) {
+			throw new IllegalArgumentException("Block has fewer UUIDs than its count");
+		}
+
+		int node = BlockFormat.getCount(buf_);
+		if (node >= nodes_.length) {
+			throw new IllegalArgumentException("Unknown node " + node);
+		}
+		int clock = buf_.getShort() & 0xFFFF;
+
+		left_ = BlockFormat.getCount(buf_);
+		if (left_ == 0) {
+			throw new IllegalArgumentException("Empty group");
+		}
+		lsb_ = UUIDBits.lsb(clock, nodes_[node]);
+		timestamp_ = BlockFormat.getVarint(buf_);
+	}
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import eu.msmit.uuid.v1.UUIDBits;
+
+/**
+ * Encodes version 1 UUIDs into a compact block, see {@link BlockFormat}. UUIDs
+ * are grouped by node and clock sequence, and sorted by timestamp within a
+ * group, so a block does not keep the order in which UUIDs were added.
+ * 
+ * UUIDs of a single generator share their node and mostly their clock
+ * sequence, and their timestamps are close, so most UUIDs take only the few
+ * bytes of their timestamp delta.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class BlockEncoder {
+
+	/**
+	 * The timestamps of one node and clock sequence
+	 */
+	private static final class Group {
+		private final int node_;
+		private final int clock_;
+		private long[] timestamps_ = new long[16];
+		private int size_;
+
+		Group(int node, int clock) {
+			node_ = node;
+			clock_ = clock;
+		}
+
+		void add(long timestamp) {
+			if (size_ == timestamps_.length) {
+				timestamps_ = Arrays.copyOf(timestamps_, size_ << 1);
+			}
+			timestamps_[size_++] = timestamp;
+		}
+	}
+
+	private final Map<Long, Integer> nodes_ = new LinkedHashMap<>();
+	private final Map<Long, Group> groups_ = new LinkedHashMap<>();
+	private int count_;
+
+	/**
+	 * Add a UUID to the block
+	 * 
+	 * @throws IllegalArgumentException
+	 *             when the UUID is not a version 1 UUID
+	 */
+	public void add(UUID uuid) {
+		add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Add a UUID to the block
+	 * 
+	 * @throws IllegalArgumentException
+	 *             when the UUID is not a version 1 UUID
+	 */
+	public void add(long msb, long lsb) {
+		if (UUIDBits.version(msb) != 1 || (lsb >>> 62) != 2) {
+			throw new IllegalArgumentException("Not a version 1 UUID");
+		}
+
+		Group group = groups_.get(lsb);
+		if (group == null) {
+			long node = UUIDBits.node(lsb);
+			Integer index = nodes_.get(node);
+			if (index == null) {
+				index = nodes_.size();
+				nodes_.put(node, index);
+			}
+			group = new Group(index, UUIDBits.clockSequence(lsb));
+			groups_.put(lsb, group);
+		}
+
+		group.add(UUIDBits.timestamp(msb));
+		count_++;
+	}
+
+	/**
+	 * Add a range of UUIDs to the block
+	 */
+	public void add(long[] msb, long[] lsb, int offset, int length) {
+		for (int i = offset; i < offset + length; i++) {
+			add(msb[i], lsb[i]);
+		}
+	}
+
+	/**
+	 * @return the number of UUIDs added
+	 */
+	public int size() {
+		return count_;
+	}
+
+	/**
+	 * Encode all added UUIDs
+	 * 
+	 * @return the block
+	 */
+	public byte[] encode() {
+		for (Group group : groups_.values()) {
+			Arrays.sort(group.timestamps_, 0, group.size_);
+		}
+
+		ByteBuffer buf = ByteBuffer.allocate(encodedSize());
+		buf.put(BlockFormat.MAGIC_0).put(BlockFormat.MAGIC_1).put(BlockFormat.VERSION);
+		BlockFormat.putVarint(buf, count_);
+
+		BlockFormat.putVarint(buf, nodes_.size());
+		for (long node : nodes_.keySet()) {
+			BlockFormat.putNode(buf, node);
+		}
+
+		BlockFormat.putVarint(buf, groups_.size());
+		for (Group group : groups_.values()) {
+			BlockFormat.putVarint(buf, group.node_);
+			buf.putShort((short) group.clock_);
+			BlockFormat.putVarint(buf, group.size_);
+			BlockFormat.putVarint(buf, group.timestamps_[0]);
+			for (int i = 1; i < group.size_; i++) {
+				BlockFormat.putVarint(buf, group.timestamps_[i] - group.timestamps_[i - 1]);
+			}
+		}
+
+		return buf.array();
+	}
+
+	/**
+	 * Remove all added UUIDs, to encode the next block
+	 */
+	public void clear() {
+		nodes_.clear();
+		groups_.clear();
+		count_ = 0;
+	}
+
+	private int encodedSize() {
+		int size = 3 + BlockFormat.varintSize(count_);
+		size += BlockFormat.varintSize(nodes_.size()) + nodes_.size() * 6;
+		size += BlockFormat.varintSize(groups_.size());
+
+		for (Group group : groups_.values()) {
+			size += BlockFormat.varintSize(group.node_) + 2 + BlockFormat.varintSize(group.size_);
+			size += BlockFormat.varintSize(group.timestamps_[0]);
+			for (int i = 1; i < group.size_; i++) {
+				size += BlockFormat.varintSize(group.timestamps_[i] - group.timestamps_[i - 1]);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Encode a range of UUIDs into a block
+	 */
+	public static byte[] encode(long[] msb, long[] lsb, int offset, int length) {
+		BlockEncoder encoder = new BlockEncoder();
+		encoder.add(msb, lsb, offset, length);
+		return encoder.encode();
+	}
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The layout of an encoded block of version 1 UUIDs. All numbers are unsigned
+ * LEB128 varints unless noted otherwise.
+ * 
+ * <pre>
+ * block   = magic(2 bytes) version(1 byte) count nodes groups
+ * nodes   = nodeCount node(6 bytes)*
+ * groups  = groupCount group*
+ * group   = nodeIndex clock(2 bytes) size timestamp delta*(size - 1)
+ * </pre>
+ * 
+ * A group holds the UUIDs of one node and clock sequence, with their
+ * timestamps in ascending order as the first timestamp followed by deltas.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class BlockFormat {
+	static final byte MAGIC_0 = 'U';
+	static final byte MAGIC_1 = '1';
+	static final byte VERSION = 1;
+
+	private BlockFormat() {
+	}
+
+	static void putVarint(ByteBuffer buf, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buf.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buf.put((byte) value);
+	}
+
+	static int varintSize(long value) {
+		int size = 1;
+		while ((value & ~0x7FL) != 0) {
+			value >>>= 7;
+			size++;
+		}
+		return size;
+	}
+
+	static long getVarint(ByteBuffer buf) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buf.get();
+			value |= (b & 0x7FL) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint");
+	}
+
+	static int getCount(ByteBuffer buf) {
+		long value = getVarint(buf);
+		if (value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Count too large: " + value);
+		}
+		return (int) value;
+	}
+
+	static void putNode(ByteBuffer buf, long node) {
+		buf.putShort((short) (node >>> 32));
+		buf.putInt((int) node);
+	}
+
+	static long getNode(ByteBuffer buf) {
+		return (buf.getShort() & 0xFFFFL) << 32 | (buf.getInt() & 0xFFFFFFFFL);
+	}
+
+	static void checkHeader(ByteBuffer buf) {
+		try {
+			if (buf.get() != MAGIC_0 || buf.get() != MAGIC_1) {
+				throw new IllegalArgumentException("Not a UUID block");
+			}
+			if (buf.get() != VERSION) {
+				throw new IllegalArgumentException("Unsupported block version");
+			}
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Truncated block", e);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.index;
+
+/**
+ * The layout of a time index file. All numbers are big endian.
+ * 
+ * <pre>
+ * index     = record* directory footer
+ * record    = msb(8 bytes) lsb(8 bytes)
+ * directory = timestamp(8 bytes)*
+ * footer    = count(8 bytes) blockSize(4 bytes) version(4 bytes) magic(8 bytes)
+ * </pre>
+ * 
+ * Records are sorted by timestamp. The directory holds the timestamp of the
+ * first record of every block of blockSize records.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class IndexFormat {
+	static final int RECORD = 16;
+	static final int FOOTER = 24;
+	static final int VERSION = 1;
+	static final long MAGIC = 0x5555494454494458L;
+
+	private IndexFormat() {
+	}
+
+	static long blocks(long count, int blockSize) {
+		return (count + blockSize - 1) / blockSize;
+	}
+}
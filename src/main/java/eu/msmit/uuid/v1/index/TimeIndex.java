@@ -0,0 +1,298 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.index;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+
+import eu.msmit.uuid.v1.UUIDBits;
+import eu.msmit.uuid.v1.UUIDSink;
+
+/**
+ * A memory mapped index of version 1 UUIDs sorted by timestamp, written by
+ * the {@link TimeIndexBuilder}. Lookups binary search the in memory block
+ * directory, then a single block of the mapped records, so only the pages
+ * touched by a query are read from disk.
+ * 
+ * The file is mapped in segments of 1GB, so it may be far larger than the
+ * heap. The mappings stay valid after {@link #close()} until they are
+ * garbage collected.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TimeIndex implements Closeable {
+	private static final int SEGMENT_SHIFT = 26;
+	private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+	/**
+	 * A range of consecutive records of the index
+	 */
+	public final class Range {
+		private final long from_;
+		private final long to_;
+
+		Range(long from, long to) {
+			from_ = from;
+			to_ = to;
+		}
+
+		/**
+		 * @return the index of the first record
+		 */
+		public long getFrom() {
+			return from_;
+		}
+
+		/**
+		 * @return the index after the last record
+		 */
+		public long getTo() {
+			return to_;
+		}
+
+		/**
+		 * @return the number of records
+		 */
+		public long size() {
+			return to_ - from_;
+		}
+
+		/**
+		 * @return the UUID at index i of this range
+		 */
+		public UUID get(long i) {
+			if (i < 0 || i >= size()) {
+				throw new IndexOutOfBoundsException();
+			}
+			return TimeIndex.this.get(from_ + i);
+		}
+
+		/**
+		 * Pass all UUIDs of this range in order
+		 */
+		public void forEach(UUIDSink sink) {
+			for (ByteBuffer buf : buffers()) {
+				while (buf.hasRemaining()) {
+					sink.accept(buf.getLong(), buf.getLong());
+				}
+			}
+		}
+
+		/**
+		 * @return read only views on the mapped records of this range, without
+		 *         copying. Every record is 16 bytes, most significant bits first.
+		 */
+		public ByteBuffer[] buffers() {
+			if (from_ == to_) {
+				return new ByteBuffer[0];
+			}
+
+			int first = (int) (from_ >>> SEGMENT_SHIFT);
+			int last = (int) ((to_ - 1) >>> SEGMENT_SHIFT);
+			ByteBuffer[] bufs = new ByteBuffer[last - first + 1];
+			for (int s = first; s <= last; s++) {
+				ByteBuffer buf = segments_[s].duplicate();
+				long start = Math.max(from_, (long) s << SEGMENT_SHIFT) & SEGMENT_MASK;
+				long end = ((Math.min(to_, (long) (s + 1) << SEGMENT_SHIFT) - 1) & SEGMENT_MASK) + 1;
+				buf.limit((int) (end * IndexFormat.RECORD));
+				buf.position((int) (start * IndexFormat.RECORD));
+				bufs[s - first] = buf.slice();
+			}
+			return bufs;
+		}
+	}
+
+	private final FileChannel channel_;
+	private final MappedByteBuffer[] segments_;
+	private final long[] directory_;
+	private final long count_;
+	private final int blockSize_;
+
+	private TimeIndex(FileChannel channel) throws IOException {
+		channel_ = channel;
+
+		long size = channel.size();
+		if (size < IndexFormat.FOOTER) {
+			throw new IllegalArgumentException("Not a time index");
+		}
+		ByteBuffer footer = read(size - IndexFormat.FOOTER, IndexFormat.FOOTER);
+		count_ = footer.getLong();
+		blockSize_ = footer.getInt();
+		int version = footer.getInt();
+		if (footer.getLong() != IndexFormat.MAGIC) {
+			throw new IllegalArgumentException("Not a time index");
+		}
+		if (version != IndexFormat.VERSION) {
+			throw new IllegalArgumentException("Unsupported index version " + version);
+		}
+
+		long blocks = IndexFormat.blocks(count_, blockSize_);
+		long records = count_ * IndexFormat.RECORD;
+		if (blockSize_ < 1 || records + blocks * 8 + IndexFormat.FOOTER != size) {
+			throw new IllegalArgumentException("Corrupt time index");
+		}
+
+		ByteBuffer dir = read(records, (int) (blocks * 8));
+		directory_ = new long[(int) blocks];
+		dir.asLongBuffer().get(directory_);
+
+		segments_ = new MappedByteBuffer[(int) ((count_ + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+		for (int s = 0; s < segments_.length; s++) {
+			long start = (long) s << SEGMENT_SHIFT;
+			long length = Math.min(count_ - start, 1L << SEGMENT_SHIFT);
+			segments_[s] = channel.map(MapMode.READ_ONLY, start * IndexFormat.RECORD, length * IndexFormat.RECORD);
+		}
+	}
+
+	/**
+	 * Open an index
+	 * 
+	 * @throws IllegalArgumentException
+	 *             when the file is not a valid index
+	 */
+	public static TimeIndex open(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			return new TimeIndex(channel);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private ByteBuffer read(long position, int length) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(length);
+		while (buf.hasRemaining()) {
+			if (channel_.read(buf, position + buf.position()) < 0) {
+				throw new EOFException();
+			}
+		}
+		buf.flip();
+		return buf;
+	}
+
+	/**
+	 * @return the number of records
+	 */
+	public long size() {
+		return count_;
+	}
+
+	/**
+	 * @return the most significant bits of record i
+	 */
+	public long msb(long i) {
+		return segments_[(int) (i >>> SEGMENT_SHIFT)].getLong((int) ((i & SEGMENT_MASK) * IndexFormat.RECORD));
+	}
+
+	/**
+	 * @return the least significant bits of record i
+	 */
+	public long lsb(long i) {
+		return segments_[(int) (i >>> SEGMENT_SHIFT)].getLong((int) ((i & SEGMENT_MASK) * IndexFormat.RECORD + 8));
+	}
+
+	/**
+	 * @return the timestamp of record i
+	 */
+	public long timestamp(long i) {
+		return UUIDBits.timestamp(msb(i));
+	}
+
+	/**
+	 * @return record i
+	 */
+	public UUID get(long i) {
+		if (i < 0 || i >= count_) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new UUID(msb(i), lsb(i));
+	}
+
+	/**
+	 * @param timestamp
+	 *            a timestamp, in 100ns since 15-oct-1582
+	 * @return the index of the first record at or after the timestamp
+	 */
+	public long indexOf(long timestamp) {
+		// The last block starting before the timestamp
+		int lo = 0;
+		int hi = directory_.length - 1;
+		int block = -1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			if (directory_[mid] < timestamp) {
+				block = mid;
+				lo = mid + 1;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		if (block < 0) {
+			return 0;
+		}
+
+		long from = (long) block * blockSize_;
+		long to = Math.min(from + blockSize_, count_);
+		while (from < to) {
+			long mid = (from + to) >>> 1;
+			if (timestamp(mid) < timestamp) {
+				from = mid + 1;
+			} else {
+				to = mid;
+			}
+		}
+		return from;
+	}
+
+	/**
+	 * @param from
+	 *            the first timestamp, inclusive
+	 * @param to
+	 *            the last timestamp, exclusive
+	 * @return the records with a timestamp in [from, to)
+	 */
+	public Range range(long from, long to) {
+		long start = indexOf(from);
+		return new Range(start, Math.max(start, indexOf(to)));
+	}
+
+	/**
+	 * @param from
+	 *            the first instant, inclusive
+	 * @param to
+	 *            the last instant, exclusive
+	 * @return the records created in [from, to), with millisecond precision
+	 */
+	public Range range(Instant from, Instant to) {
+		return range(UUIDBits.ticks(from.toEpochMilli()), UUIDBits.ticks(to.toEpochMilli()));
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel_.close();
+	}
+}
@@ -0,0 +1,300 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.index;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import eu.msmit.uuid.v1.TimeSort;
+import eu.msmit.uuid.v1.UUIDBits;
+
+/**
+ * Builds a {@link TimeIndex} from a file of 16 byte version 1 UUID records,
+ * most significant bits first. The records are sorted in runs that fit in
+ * memory, the runs are written next to the index and merged into it, so the
+ * file may be far larger than the heap.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TimeIndexBuilder {
+	private static final int BUFFER = 1 << 16;
+
+	private final int runSize_;
+	private final int blockSize_;
+
+	/**
+	 * Sort in runs of 4M records and write a directory entry every 4096 records
+	 */
+	public TimeIndexBuilder() {
+		this(1 << 22, 1 << 12);
+	}
+
+	/**
+	 * @param runSize
+	 *            the number of records sorted in memory at once
+	 * @param blockSize
+	 *            the number of records per directory entry
+	 */
+	public TimeIndexBuilder(int runSize, int blockSize) {
+		if (runSize < 1 || blockSize < 1) {
+			throw new IllegalArgumentException("Sizes must be positive");
+		}
+		runSize_ = runSize;
+		blockSize_ = blockSize;
+	}
+
+	/**
+	 * Build an index
+	 * 
+	 * @param records
+	 *            the file of records
+	 * @param index
+	 *            the index file, replaced when it exists
+	 * @return the number of indexed records
+	 * @throws IllegalArgumentException
+	 *             when the file holds a partial or non version 1 record
+	 */
+	public long build(Path records, Path index) throws IOException {
+		long size = Files.size(records);
+		if (size % IndexFormat.RECORD != 0) {
+			throw new IllegalArgumentException("File size is not a multiple of " + IndexFormat.RECORD);
+		}
+		long count = size / IndexFormat.RECORD;
+
+		Path dir = index.toAbsolutePath().getParent();
+		List<Path> runs = new ArrayList<>();
+		try {
+			try (RecordReader in = new RecordReader(records)) {
+				long[] msb = new long[(int) Math.min(runSize_, count)];
+				long[] lsb = new long[msb.length];
+				for (long left = count; left > 0;) {
+					int n = (int) Math.min(msb.length, left);
+					for (int i = 0; i < n; i++) {
+						in.next();
+						if (UUIDBits.version(in.msb_) != 1) {
+							throw new IllegalArgumentException("Not a version 1 UUID at record " + (count - left + i));
+						}
+						msb[i] = in.msb_;
+						lsb[i] = in.lsb_;
+					}
+					TimeSort.sort(msb, lsb, 0, n);
+					left -= n;
+
+					// A single run is the index itself
+					if (runs.isEmpty() && left == 0) {
+						try (IndexWriter out = new IndexWriter(index, count, blockSize_)) {
+							for (int i = 0; i < n; i++) {
+								out.write(msb[i], lsb[i]);
+							}
+						}
+						return count;
+					}
+
+					Path run = Files.createTempFile(dir, "run", ".tmp");
+					runs.add(run);
+					try (RecordWriter out = new RecordWriter(run)) {
+						for (int i = 0; i < n; i++) {
+							out.write(msb[i], lsb[i]);
+						}
+					}
+				}
+			}
+
+			if (runs.isEmpty()) {
+				new IndexWriter(index, 0, blockSize_).close();
+			} else {
+				merge(runs, index, count);
+			}
+			return count;
+		} finally {
+			for (Path run : runs) {
+				Files.deleteIfExists(run);
+			}
+		}
+	}
+
+	private void merge(List<Path> runs, Path index, long count) throws IOException {
+		PriorityQueue<RecordReader> heap = new PriorityQueue<>(runs.size(),
+				(a, b) -> TimeSort.compare(a.msb_, a.lsb_, b.msb_, b.lsb_));
+		try (IndexWriter out = new IndexWriter(index, count, blockSize_)) {
+			try {
+				for (Path run : runs) {
+					RecordReader in = new RecordReader(run);
+					try {
+						in.next();
+					} catch (IOException e) {
+						in.close();
+						throw e;
+					}
+					heap.add(in);
+				}
+
+				RecordReader in;
+				while ((in = heap.poll()) != null) {
+					out.write(in.msb_, in.lsb_);
+					if (in.hasNext()) {
+						in.next();
+						heap.add(in);
+					} else {
+						in.close();
+					}
+				}
+			} finally {
+				for (RecordReader in : heap) {
+					in.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads records through a reused buffer
+	 */
+	private static class RecordReader implements AutoCloseable {
+		private final FileChannel channel_;
+		private final ByteBuffer buf_ = ByteBuffer.allocateDirect(BUFFER);
+		private long left_;
+		long msb_;
+		long lsb_;
+
+		RecordReader(Path path) throws IOException {
+			channel_ = FileChannel.open(path, StandardOpenOption.READ);
+			left_ = channel_.size() / IndexFormat.RECORD;
+			buf_.flip();
+		}
+
+		boolean hasNext() {
+			return left_ > 0;
+		}
+
+		void next() throws IOException {
+			if (buf_.remaining() < IndexFormat.RECORD) {
+				buf_.compact();
+				while (buf_.position() < IndexFormat.RECORD) {
+					if (channel_.read(buf_) < 0) {
+						throw new EOFException();
+					}
+				}
+				buf_.flip();
+			}
+			msb_ = buf_.getLong();
+			lsb_ = buf_.getLong();
+			left_--;
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel_.close();
+		}
+	}
+
+	/**
+	 * Writes records through a reused buffer
+	 */
+	private static class RecordWriter implements AutoCloseable {
+		private final FileChannel channel_;
+		protected final ByteBuffer buf_ = ByteBuffer.allocateDirect(BUFFER);
+
+		RecordWriter(Path path) throws IOException {
+			channel_ = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING);
+		}
+
+		void write(long msb, long lsb) throws IOException {
+			ensure(IndexFormat.RECORD);
+			buf_.putLong(msb).putLong(lsb);
+		}
+
+		protected void ensure(int bytes) throws IOException {
+			if (buf_.remaining() < bytes) {
+				flush();
+			}
+		}
+
+		private void flush() throws IOException {
+			buf_.flip();
+			while (buf_.hasRemaining()) {
+				channel_.write(buf_);
+			}
+			buf_.clear();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				flush();
+			} finally {
+				channel_.close();
+			}
+		}
+	}
+
+	/**
+	 * Writes sorted records and appends the directory and footer
+	 */
+	private static class IndexWriter extends RecordWriter {
+		private final long count_;
+		private final int blockSize_;
+		private final long[] directory_;
+		private long written_;
+
+		IndexWriter(Path path, long count, int blockSize) throws IOException {
+			super(path);
+			long blocks = IndexFormat.blocks(count, blockSize);
+			if (blocks > Integer.MAX_VALUE - 8) {
+				throw new IllegalArgumentException("Too many blocks, use a larger block size");
+			}
+			count_ = count;
+			blockSize_ = blockSize;
+			directory_ = new long[(int) blocks];
+		}
+
+		@Override
+		void write(long msb, long lsb) throws IOException {
+			if (written_ % blockSize_ == 0) {
+				directory_[(int) (written_ / blockSize_)] = UUIDBits.timestamp(msb);
+			}
+			super.write(msb, lsb);
+			written_++;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				if (written_ != count_) {
+					throw new IOException("Wrote " + written_ + " of " + count_ + " records");
+				}
+				for (long timestamp : directory_) {
+					ensure(8);
+					buf_.putLong(timestamp);
+				}
+				ensure(IndexFormat.FOOTER);
+				buf_.putLong(count_).putInt(blockSize_).putInt(IndexFormat.VERSION).putLong(IndexFormat.MAGIC);
+			} finally {
+				super.close();
+			}
+		}
+	}
+}
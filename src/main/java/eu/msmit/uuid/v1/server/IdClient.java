@@ -0,0 +1,264 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.server;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import eu.msmit.uuid.v1.Generator;
+
+/**
+ * Issues UUIDs leased from an {@link IdServer}. Blocks of UUIDs are cached
+ * locally and the next blocks are requested before they are needed, so most
+ * calls only take a UUID from the current block.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class IdClient implements Generator, Closeable {
+	private final ReentrantLock lock_ = new ReentrantLock();
+	private final SocketChannel channel_;
+	private final int blockSize_;
+	private final int pipeline_;
+
+	private final ByteBuffer out_ = ByteBuffer.allocate(Protocol.HEADER);
+	private final ByteBuffer in_ = ByteBuffer.allocateDirect(1 << 16);
+
+	/** Received blocks, msb and lsb interleaved **/
+	private final ArrayDeque<long[]> blocks_ = new ArrayDeque<>();
+	private final ArrayDeque<long[]> free_ = new ArrayDeque<>();
+	private long[] block_;
+	private int pos_;
+	private int end_;
+	private int pending_;
+	private int nextId_;
+
+	/** The id of the range lease waiting for its response **/
+	private int rangeId_ = -1;
+
+	/**
+	 * Connect with blocks of 10000 UUIDs, two requested ahead
+	 */
+	public IdClient(SocketAddress address) throws IOException {
+		this(SocketChannel.open(address), 10000, 2);
+	}
+
+	/**
+	 * @param channel
+	 *            a connected channel, closed with this client
+	 * @param blockSize
+	 *            the number of UUIDs per lease
+	 * @param pipeline
+	 *            the number of blocks requested ahead
+	 */
+	public IdClient(SocketChannel channel, int blockSize, int pipeline) throws IOException {
+		if (blockSize < 1 || blockSize > Protocol.MAX_COUNT) {
+			throw new IllegalArgumentException("Block size must be in [1, " + Protocol.MAX_COUNT + "]");
+		}
+		if (pipeline < 1) {
+			throw new IllegalArgumentException("Pipeline must be positive");
+		}
+
+		channel_ = channel;
+		blockSize_ = blockSize;
+		pipeline_ = pipeline;
+
+		channel.configureBlocking(true);
+		block_ = new long[blockSize * 2];
+		lock_.lock();
+		try {
+			request();
+		} finally {
+			lock_.unlock();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next()
+	 */
+	@Override
+	public UUID next() {
+		long msb;
+		long lsb;
+
+		lock_.lock();
+		try {
+			if (pos_ == end_) {
+				refill();
+			}
+			msb = block_[pos_ << 1];
+			lsb = block_[(pos_ << 1) + 1];
+			pos_++;
+		} finally {
+			lock_.unlock();
+		}
+
+		return new UUID(msb, lsb);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.msmit.uuid.v1.Generator#next(long[], long[], int, int)
+	 */
+	@Override
+	public void next(long[] msb, long[] lsb, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > msb.length || offset + length > lsb.length) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		lock_.lock();
+		try {
+			for (int i = offset; i < offset + length; i++) {
+				if (pos_ == end_) {
+					refill();
+				}
+				msb[i] = block_[pos_ << 1];
+				lsb[i] = block_[(pos_ << 1) + 1];
+				pos_++;
+			}
+		} finally {
+			lock_.unlock();
+		}
+	}
+
+	/**
+	 * Lease a range of ticks, to issue UUIDs without further requests
+	 * 
+	 * @param ticks
+	 *            the number of ticks, at most 65536
+	 * @return the lease
+	 * @throws IOException
+	 *             when the connection failed or the server refused
+	 */
+	public TickLease lease(int ticks) throws IOException {
+		lock_.lock();
+		try {
+			rangeId_ = nextId_;
+			send(Protocol.LEASE_RANGE, ticks);
+			TickLease lease;
+			while ((lease = receive()) == null) {
+				// Buffer the blocks requested before
+			}
+			return lease;
+		} finally {
+			rangeId_ = -1;
+			lock_.unlock();
+		}
+	}
+
+	/**
+	 * Take the next block, requesting more to keep the pipeline full
+	 */
+	private void refill() {
+		try {
+			if (end_ > 0) {
+				free_.add(block_);
+				pos_ = 0;
+				end_ = 0;
+			}
+			request();
+			while (blocks_.isEmpty()) {
+				receive();
+			}
+			block_ = blocks_.poll();
+			pos_ = 0;
+			end_ = blockSize_;
+			request();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void request() throws IOException {
+		while (pending_ + blocks_.size() < pipeline_) {
+			send(Protocol.LEASE_IDS, blockSize_);
+			pending_++;
+		}
+	}
+
+	private void send(byte type, int count) throws IOException {
+		out_.clear();
+		out_.put(type).putInt(nextId_++).putInt(count).flip();
+		while (out_.hasRemaining()) {
+			channel_.write(out_);
+		}
+	}
+
+	/**
+	 * Read one response, blocks are queued
+	 * 
+	 * @return the lease, or null when a block was read
+	 */
+	private TickLease receive() throws IOException {
+		read(Protocol.HEADER);
+		byte type = in_.get();
+		int id = in_.getInt();
+		int count = in_.getInt();
+
+		switch (type) {
+		case Protocol.LEASE_IDS:
+			long[] block = free_.isEmpty() ? new long[blockSize_ * 2] : free_.poll();
+			for (int i = 0; i < count;) {
+				int n = Math.min(count - i, in_.capacity() / Protocol.ID);
+				read(n * Protocol.ID);
+				for (int end = i + n; i < end; i++) {
+					block[i << 1] = in_.getLong();
+					block[(i << 1) + 1] = in_.getLong();
+				}
+			}
+			pending_--;
+			blocks_.add(block);
+			return null;
+		case Protocol.LEASE_RANGE:
+			read(Protocol.RANGE);
+			return new TickLease(in_.getLong(), count, in_.getLong(), in_.getShort() & 0xFFFF);
+		case Protocol.ERROR:
+			if (id != rangeId_) {
+				// A refused block, requested again on the next refill
+				pending_--;
+			}
+			throw new IOException("Lease refused with error " + count);
+		default:
+			throw new IOException("Unknown response " + type);
+		}
+	}
+
+	private void read(int bytes) throws IOException {
+		in_.clear().limit(bytes);
+		while (in_.hasRemaining()) {
+			if (channel_.read(in_) < 0) {
+				throw new EOFException();
+			}
+		}
+		in_.flip();
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel_.close();
+	}
+}
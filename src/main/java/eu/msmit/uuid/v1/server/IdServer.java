@@ -0,0 +1,278 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+import eu.msmit.uuid.v1.Generator;
+import eu.msmit.uuid.v1.KSortedGenerator;
+import eu.msmit.uuid.v1.ParallelGenerator;
+
+/**
+ * Serves blocks of UUIDs to local processes, so a host runs one set of nodes
+ * instead of one per process. Clients lease either a block of UUIDs, taken
+ * from a {@link Generator}, or a range of timestamp ticks with a node and
+ * clock sequence, reserved from a {@link KSortedGenerator}, to issue UUIDs
+ * themselves. See {@link Protocol} for the wire format.
+ * 
+ * One thread serves all connections with a selector. Requests may be
+ * pipelined, a connection is not read while its responses are not written.
+ * 
+ * The server listens on any bound {@link ServerSocketChannel}, so on Java 16
+ * and newer a Unix domain socket channel can be passed as well.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class IdServer implements Closeable {
+	private static final int READ_BUFFER = 1 << 12;
+
+	/** Stop answering requests of a connection above this many pending bytes **/
+	private static final int OUT_LIMIT = 1 << 20;
+
+	/**
+	 * The state of one client
+	 */
+	private static final class Connection {
+		final SocketChannel channel_;
+		final ByteBuffer in_ = ByteBuffer.allocate(READ_BUFFER);
+		ByteBuffer out_ = ByteBuffer.allocate(READ_BUFFER);
+
+		Connection(SocketChannel channel) {
+			channel_ = channel;
+			out_.flip();
+		}
+	}
+
+	private final ServerSocketChannel server_;
+	private final Selector selector_;
+	private final Generator generator_;
+	private final KSortedGenerator ranges_;
+	private final Thread thread_;
+
+	/** Reused for every lease **/
+	private final long[] msb_ = new long[Protocol.MAX_COUNT];
+	private final long[] lsb_ = new long[Protocol.MAX_COUNT];
+
+	/**
+	 * Serve on an ephemeral loopback port with a {@link ParallelGenerator}
+	 */
+	public IdServer() throws IOException {
+		this(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+	}
+
+	/**
+	 * Serve on the given address with a {@link ParallelGenerator}
+	 */
+	public IdServer(SocketAddress address) throws IOException {
+		this(bind(address), new ParallelGenerator(), new KSortedGenerator());
+	}
+
+	/**
+	 * @param server
+	 *            a bound channel, closed with this server
+	 * @param generator
+	 *            the generator of leased UUIDs
+	 * @param ranges
+	 *            the generator to reserve leased ranges from, its node must
+	 *            not be used by the generator
+	 */
+	public IdServer(ServerSocketChannel server, Generator generator, KSortedGenerator ranges) throws IOException {
+		server_ = server;
+		generator_ = generator;
+		ranges_ = ranges;
+		selector_ = Selector.open();
+
+		server.configureBlocking(false);
+		server.register(selector_, SelectionKey.OP_ACCEPT);
+
+		thread_ = new Thread(this::serve, "uuid-server");
+		thread_.setDaemon(true);
+		thread_.start();
+	}
+
+	private static ServerSocketChannel bind(SocketAddress address) throws IOException {
+		ServerSocketChannel server = ServerSocketChannel.open();
+		try {
+			server.bind(address);
+		} catch (IOException e) {
+			server.close();
+			throw e;
+		}
+		return server;
+	}
+
+	/**
+	 * @return the address clients connect to
+	 */
+	public SocketAddress getAddress() throws IOException {
+		return server_.getLocalAddress();
+	}
+
+	private void serve() {
+		try {
+			while (selector_.isOpen()) {
+				selector_.select();
+				Iterator<SelectionKey> keys = selector_.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+
+					if (!key.isValid()) {
+						continue;
+					}
+					if (key.isAcceptable()) {
+						accept();
+						continue;
+					}
+
+					Connection conn = (Connection) key.attachment();
+					try {
+						if (key.isReadable() && conn.channel_.read(conn.in_) < 0) {
+							close(key);
+							continue;
+						}
+
+						boolean drained;
+						while ((drained = flush(conn)) && handle(conn)) {
+							// Answer the requests left in the buffer
+						}
+						key.interestOps(drained ? SelectionKey.OP_READ : SelectionKey.OP_WRITE);
+					} catch (IOException e) {
+						close(key);
+					}
+				}
+			}
+		} catch (IOException | ClosedSelectorException e) {
+			// Closed
+		}
+	}
+
+	private void accept() throws IOException {
+		SocketChannel channel = server_.accept();
+		if (channel != null) {
+			channel.configureBlocking(false);
+			channel.register(selector_, SelectionKey.OP_READ, new Connection(channel));
+		}
+	}
+
+	/**
+	 * Answer complete requests, until the pending responses reach the limit
+	 * 
+	 * @return true when a request was answered
+	 */
+	private boolean handle(Connection conn) {
+		ByteBuffer in = conn.in_;
+		boolean answered = false;
+		in.flip();
+		while (in.remaining() >= Protocol.HEADER && conn.out_.remaining() < OUT_LIMIT) {
+			byte type = in.get();
+			int id = in.getInt();
+			int count = in.getInt();
+
+			if (count < 1 || count > Protocol.MAX_COUNT) {
+				error(conn, id, Protocol.ERROR_COUNT);
+			} else if (type == Protocol.LEASE_IDS) {
+				ByteBuffer out = reserve(conn, Protocol.HEADER + count * Protocol.ID);
+				out.put(Protocol.LEASE_IDS).putInt(id).putInt(count);
+				generator_.next(msb_, lsb_, 0, count);
+				for (int i = 0; i < count; i++) {
+					out.putLong(msb_[i]).putLong(lsb_[i]);
+				}
+			} else if (type == Protocol.LEASE_RANGE) {
+				long timestamp = ranges_.reserve(count);
+				ByteBuffer out = reserve(conn, Protocol.HEADER + Protocol.RANGE);
+				out.put(Protocol.LEASE_RANGE).putInt(id).putInt(count);
+				out.putLong(timestamp).putLong(ranges_.getNode()).putShort((short) ranges_.getClockSequence());
+			} else {
+				error(conn, id, Protocol.ERROR_TYPE);
+			}
+			conn.out_.flip();
+			answered = true;
+		}
+		in.compact();
+		return answered;
+	}
+
+	private void error(Connection conn, int id, int code) {
+		reserve(conn, Protocol.HEADER).put(Protocol.ERROR).putInt(id).putInt(code);
+	}
+
+	/**
+	 * @return the out buffer of the connection in write mode, with room for the
+	 *         given number of bytes
+	 */
+	private ByteBuffer reserve(Connection conn, int bytes) {
+		ByteBuffer out = conn.out_;
+		out.compact();
+		if (out.remaining() < bytes) {
+			out.flip();
+			ByteBuffer grown = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.remaining() + bytes));
+			grown.put(out);
+			conn.out_ = out = grown;
+		}
+		return out;
+	}
+
+	/**
+	 * @return true when all responses are written
+	 */
+	private boolean flush(Connection conn) throws IOException {
+		conn.channel_.write(conn.out_);
+		return !conn.out_.hasRemaining();
+	}
+
+	private void close(SelectionKey key) {
+		key.cancel();
+		try {
+			key.channel().close();
+		} catch (IOException e) {
+			// Ignore
+		}
+	}
+
+	/**
+	 * Stop serving and close all connections
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			for (SelectionKey key : selector_.keys()) {
+				key.channel().close();
+			}
+			selector_.close();
+		} finally {
+			server_.close();
+		}
+
+		try {
+			thread_.join(1000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
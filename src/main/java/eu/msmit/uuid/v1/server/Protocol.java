@@ -0,0 +1,55 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.server;
+
+/**
+ * The binary protocol between {@link IdServer} and {@link IdClient}. All
+ * numbers are big endian. A client may send requests without waiting for
+ * responses, the server answers them in order.
+ * 
+ * <pre>
+ * request  = type(1 byte) id(4 bytes) count(4 bytes)
+ * response = type(1 byte) id(4 bytes) count(4 bytes) payload
+ * 
+ * LEASE_IDS   payload = (msb(8 bytes) lsb(8 bytes))*count
+ * LEASE_RANGE payload = timestamp(8 bytes) node(8 bytes) clock(2 bytes)
+ * ERROR       payload = none, count holds the error code
+ * </pre>
+ * 
+ * A range lease grants the ticks [timestamp, timestamp + count) for exclusive
+ * use with the node and clock sequence.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class Protocol {
+	static final byte LEASE_IDS = 1;
+	static final byte LEASE_RANGE = 2;
+	static final byte ERROR = 0x7F;
+
+	static final int ERROR_TYPE = 1;
+	static final int ERROR_COUNT = 2;
+
+	static final int HEADER = 9;
+	static final int ID = 16;
+	static final int RANGE = 18;
+
+	/** The largest lease of either kind **/
+	static final int MAX_COUNT = 1 << 16;
+
+	private Protocol() {
+	}
+}
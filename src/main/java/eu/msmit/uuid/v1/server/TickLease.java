@@ -0,0 +1,91 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.server;
+
+import java.util.UUID;
+
+import eu.msmit.uuid.v1.UUIDBits;
+
+/**
+ * A range of timestamp ticks leased from an {@link IdServer}, for exclusive
+ * use with its node and clock sequence. Every tick gives one UUID.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public final class TickLease {
+	private final long timestamp_;
+	private final int ticks_;
+	private final long lsb_;
+
+	TickLease(long timestamp, int ticks, long node, int clock) {
+		timestamp_ = timestamp;
+		ticks_ = ticks;
+		lsb_ = UUIDBits.lsb(clock, node);
+	}
+
+	/**
+	 * @return the first tick of the range
+	 */
+	public long getTimestamp() {
+		return timestamp_;
+	}
+
+	/**
+	 * @return the number of ticks in the range
+	 */
+	public int getTicks() {
+		return ticks_;
+	}
+
+	/**
+	 * @return the node to use
+	 */
+	public long getNode() {
+		return UUIDBits.node(lsb_);
+	}
+
+	/**
+	 * @return the clock sequence to use
+	 */
+	public int getClockSequence() {
+		return UUIDBits.clockSequence(lsb_);
+	}
+
+	/**
+	 * @return the most significant bits of UUID i of the range
+	 */
+	public long msb(int i) {
+		if (i < 0 || i >= ticks_) {
+			throw new IndexOutOfBoundsException();
+		}
+		return UUIDBits.msb(timestamp_ + i);
+	}
+
+	/**
+	 * @return the least significant bits of all UUIDs of the range
+	 */
+	public long lsb() {
+		return lsb_;
+	}
+
+	/**
+	 * @return UUID i of the range
+	 */
+	public UUID get(int i) {
+		return new UUID(msb(i), lsb_);
+	}
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+/**
+ * Java 9+ implementation of the platform specific parts, packaged in
+ * <code>META-INF/versions/9</code> of the multi-release jar.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+final class Platform {
+
+	/**
+	 * Busy spin this many times before yielding. The wait for the next
+	 * millisecond is mostly short, but when it is not, a virtual thread must
+	 * give up its carrier.
+	 */
+	private static final int SPINS = 100;
+
+	private Platform() {
+	}
+
+	/**
+	 * Called in a loop while waiting for the clock to move
+	 * 
+	 * @param spins
+	 *            the number of times called before in this loop
+	 */
+	static void onSpinWait(int spins) {
+		if (spins < SPINS) {
+			Thread.onSpinWait();
+		} else {
+			Thread.yield();
+		}
+	}
+}
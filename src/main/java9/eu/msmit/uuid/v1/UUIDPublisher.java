@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Publisher} of the UUIDs of a {@link Generator}, only available
+ * on Java 9 and newer from <code>META-INF/versions/9</code> of the
+ * multi-release jar.
+ * 
+ * Demand is served in batches through
+ * {@link Generator#next(long[], long[], int, int)}: a batch holds the
+ * outstanding demand, up to the batch size, so the generator lock is taken
+ * once per batch and no UUID is generated before it is requested. The batch
+ * arrays of a subscription are reused.
+ * 
+ * The stream of UUIDs is endless, a subscriber stops it by cancelling its
+ * subscription. Without an executor, UUIDs are delivered on the thread that
+ * calls {@link Flow.Subscription#request(long)}, requests from within
+ * {@link Flow.Subscriber#onNext(Object)} do not recurse.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class UUIDPublisher implements Flow.Publisher<UUID> {
+
+	/** The default maximum number of UUIDs generated at once **/
+	public static final int DEFAULT_BATCH = 256;
+
+	private final Generator generator_;
+	private final int batch_;
+	private final Executor executor_;
+
+	/**
+	 * Create a publisher delivering on the requesting thread
+	 * 
+	 * @param generator
+	 *            the source of the UUIDs
+	 */
+	public UUIDPublisher(Generator generator) {
+		this(generator, DEFAULT_BATCH, null);
+	}
+
+	/**
+	 * @param generator
+	 *            the source of the UUIDs
+	 * @param batch
+	 *            the maximum number of UUIDs generated at once
+	 * @param executor
+	 *            delivers the UUIDs, or null to deliver on the requesting
+	 *            thread
+	 */
+	public UUIDPublisher(Generator generator, int batch, Executor executor) {
+		if (batch <= 0) {
+			throw new IllegalArgumentException("Batch must be above zero");
+		}
+
+		generator_ = Objects.requireNonNull(generator);
+		batch_ = batch;
+		executor_ = executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.concurrent.Flow.Publisher#subscribe(java.util.concurrent.Flow.Subscriber)
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super UUID> subscriber) {
+		Objects.requireNonNull(subscriber);
+		subscriber.onSubscribe(new Subscription(subscriber));
+	}
+
+	private final class Subscription implements Flow.Subscription, Runnable {
+		private final Flow.Subscriber<? super UUID> subscriber_;
+		private final AtomicLong demand_ = new AtomicLong();
+		private final AtomicInteger wip_ = new AtomicInteger();
+		private final long[] msb_ = new long[batch_];
+		private final long[] lsb_ = new long[batch_];
+		private volatile boolean cancelled_;
+		private volatile Throwable error_;
+
+		Subscription(Flow.Subscriber<? super UUID> subscriber) {
+			subscriber_ = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				error_ = new IllegalArgumentException("Request must be above zero, was " + n);
+			} else {
+				// Add, capped at unbounded
+				demand_.getAndAccumulate(n, (d, r) -> d + r < 0 ? Long.MAX_VALUE : d + r);
+			}
+
+			if (wip_.getAndIncrement() == 0) {
+				if (executor_ == null) {
+					run();
+				} else {
+					executor_.execute(this);
+				}
+			}
+		}
+
+		@Override
+		public void cancel() {
+			cancelled_ = true;
+		}
+
+		/**
+		 * Deliver until the demand is met, by one thread at a time
+		 */
+		@Override
+		public void run() {
+			int missed = 1;
+
+			do {
+				long demand = demand_.get();
+				long emitted = 0;
+
+				while (emitted != demand && !cancelled_ && error_ == null) {
+					int length = (int) Math.min(batch_, demand - emitted);
+
+					try {
+						generator_.next(msb_, lsb_, 0, length);
+					} catch (RuntimeException e) {
+						error_ = e;
+						break;
+					}
+
+					for (int i = 0; i < length && !cancelled_; i++) {
+						subscriber_.onNext(new UUID(msb_[i], lsb_[i]));
+					}
+					emitted += length;
+				}
+
+				if (error_ != null && !cancelled_) {
+					cancelled_ = true;
+					subscriber_.onError(error_);
+				}
+				if (cancelled_) {
+					return;
+				}
+
+				if (emitted != 0 && demand != Long.MAX_VALUE) {
+					demand_.addAndGet(-emitted);
+				}
+				missed = wip_.addAndGet(-missed);
+			} while (missed != 0);
+		}
+	}
+}
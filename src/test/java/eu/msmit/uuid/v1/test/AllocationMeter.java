@@ -0,0 +1,99 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+/**
+ * Measures the bytes a task allocates on the current thread, through the
+ * HotSpot {@link com.sun.management.ThreadMXBean}. Results are kept in a
+ * sink, so the JIT cannot remove the allocations under test.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class AllocationMeter {
+
+	/**
+	 * A measured task
+	 */
+	public interface Task {
+		/**
+		 * @param i
+		 *            the number of the call
+		 * @return the result, kept in the sink
+		 */
+		Object call(int i);
+	}
+
+	private static final int WARMUP = 3;
+	private static final Object[] SINK = new Object[1024];
+
+	private final com.sun.management.ThreadMXBean threads_;
+	private final int calls_;
+
+	/**
+	 * @param calls
+	 *            the number of calls per measurement
+	 */
+	public AllocationMeter(int calls) {
+		java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+			threads_ = (com.sun.management.ThreadMXBean) threads;
+			threads_.setThreadAllocatedMemoryEnabled(true);
+		} else {
+			threads_ = null;
+		}
+		calls_ = calls;
+	}
+
+	/**
+	 * @return true when this JVM can measure allocations
+	 */
+	public boolean isSupported() {
+		return threads_ != null;
+	}
+
+	/**
+	 * Run the task after a warm up
+	 * 
+	 * @return the bytes allocated per call
+	 */
+	public double measure(Task task) {
+		for (int w = 0; w < WARMUP; w++) {
+			run(task);
+		}
+		return (double) run(task) / calls_;
+	}
+
+	/**
+	 * @return the size of a {@link UUID} on this JVM
+	 */
+	public double uuidSize() {
+		return measure(i -> new UUID(i, i));
+	}
+
+	private long run(Task task) {
+		long thread = Thread.currentThread().getId();
+		long start = threads_.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < calls_; i++) {
+			SINK[i & (SINK.length - 1)] = task.call(i);
+		}
+		return threads_.getThreadAllocatedBytes(thread) - start;
+	}
+}
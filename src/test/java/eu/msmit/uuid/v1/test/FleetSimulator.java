@@ -0,0 +1,397 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.UUIDBits;
+
+/**
+ * Simulates a fleet of JVMs running the same image, to estimate how often
+ * {@link SimulatedNode} digests and random clock sequences collide, and how
+ * many duplicate UUIDs that causes.
+ * 
+ * Every JVM has its own simulated clock, which advances one millisecond per
+ * configured number of reads, so generation speed drives time. Clocks of
+ * hosts have a random offset and may step back, and JVMs may restart, which
+ * gives them a new start time, node and clock sequence. All UUIDs are
+ * checked against one primitive set.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class FleetSimulator {
+
+	/**
+	 * The outcome of a simulation
+	 */
+	public static class Report {
+		private int jvms_;
+		private int restarts_;
+		private long uuids_;
+		private long duplicates_;
+		private int nodeCollisions_;
+		private int clockSequenceReuses_;
+		private long clockSteps_;
+		private long elapsedNs_;
+
+		/**
+		 * @return the number of JVM incarnations, including restarts
+		 */
+		public int getJVMs() {
+			return jvms_;
+		}
+
+		/**
+		 * @return the number of restarts
+		 */
+		public int getRestarts() {
+			return restarts_;
+		}
+
+		/**
+		 * @return the number of generated UUIDs
+		 */
+		public long getUUIDs() {
+			return uuids_;
+		}
+
+		/**
+		 * @return the number of UUIDs generated before
+		 */
+		public long getDuplicates() {
+			return duplicates_;
+		}
+
+		/**
+		 * @return the number of JVMs with a node of an earlier JVM
+		 */
+		public int getNodeCollisions() {
+			return nodeCollisions_;
+		}
+
+		/**
+		 * @return the number of JVMs that started with the node and clock
+		 *         sequence of an earlier JVM
+		 */
+		public int getClockSequenceReuses() {
+			return clockSequenceReuses_;
+		}
+
+		/**
+		 * @return the number of backward clock steps
+		 */
+		public long getClockSteps() {
+			return clockSteps_;
+		}
+
+		/**
+		 * @return the fraction of JVMs with a colliding node
+		 */
+		public double getNodeCollisionRate() {
+			return (double) nodeCollisions_ / jvms_;
+		}
+
+		/**
+		 * @return the fraction of duplicate UUIDs
+		 */
+		public double getDuplicateRate() {
+			return (double) duplicates_ / uuids_;
+		}
+
+		/**
+		 * @return the simulated UUIDs per second of wall time
+		 */
+		public double getThroughput() {
+			return uuids_ * 1e9 / elapsedNs_;
+		}
+
+		@Override
+		public String toString() {
+			return "jvms=" + jvms_ + ", restarts=" + restarts_ + ", uuids=" + uuids_ + ", duplicates=" + duplicates_
+					+ ", nodeCollisions=" + nodeCollisions_ + ", clockSequenceReuses=" + clockSequenceReuses_
+					+ ", clockSteps=" + clockSteps_ + ", throughput=" + (long) getThroughput() + "/s";
+		}
+	}
+
+	/**
+	 * A clock advanced by reading it
+	 */
+	private static final class SimulatedClock extends Clock {
+		private final int readsPerMs_;
+		private long now_;
+		private int reads_;
+
+		SimulatedClock(long now, int readsPerMs) {
+			now_ = now;
+			readsPerMs_ = readsPerMs;
+		}
+
+		@Override
+		public long millis() {
+			if (++reads_ >= readsPerMs_) {
+				reads_ = 0;
+				now_++;
+			}
+			return now_;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * One incarnation of a JVM on a host
+	 */
+	private final class Jvm {
+		final int host_;
+		final int slot_;
+		final SimulatedClock clock_;
+		DefaultGenerator generator_;
+
+		Jvm(int host, int slot, SimulatedClock clock) {
+			host_ = host;
+			slot_ = slot;
+			clock_ = clock;
+		}
+
+		/**
+		 * Start the JVM at the current time of its clock
+		 */
+		void start() {
+			long startTime = clock_.now_;
+			long upTime = minUpTimeMs_ + random_.nextInt(upTimeSpreadMs_);
+			int instanceId = 1 + random_.nextInt(identityHashes_);
+			clock_.now_ += upTime;
+
+			byte[] hwAddr;
+			String hostAddr;
+			if (containers_) {
+				// The default bridge gives the n-th container the same addresses on every host
+				hwAddr = new byte[] { 0x02, 0x42, (byte) 0xac, 0x11, 0x00, (byte) (slot_ + 2) };
+				hostAddr = "172.17.0." + (slot_ + 2);
+			} else {
+				hwAddr = new byte[] { 0x00, 0x16, 0x3e, (byte) (host_ >>> 16), (byte) (host_ >>> 8), (byte) host_ };
+				hostAddr = "10." + (host_ >>> 16 & 0xFF) + "." + (host_ >>> 8 & 0xFF) + "." + (host_ & 0xFF);
+			}
+
+			SimulatedNode node = new SimulatedNode(hwAddr, hostAddr, startTime, upTime, instanceId);
+			generator_ = new DefaultGenerator(node, clock_, new Random(random_.nextLong()));
+			report_.jvms_++;
+		}
+	}
+
+	private int hosts_ = 1000;
+	private int jvmsPerHost_ = 5;
+	private int rounds_ = 10;
+	private int idsPerRound_ = 100;
+	private int idsPerMs_ = 100;
+	private boolean containers_ = true;
+	private long startSpreadMs_ = 60000;
+	private long clockOffsetMs_ = 100;
+	private int minUpTimeMs_ = 300;
+	private int upTimeSpreadMs_ = 500;
+	private int identityHashes_ = Integer.MAX_VALUE - 1;
+	private double restartRate_;
+	private double clockStepRate_;
+	private int clockStepMs_ = 1000;
+	private long seed_ = 1;
+
+	private Random random_;
+	private Report report_;
+
+	/**
+	 * @param hosts
+	 *            the number of hosts
+	 * @param jvmsPerHost
+	 *            the number of JVMs per host
+	 */
+	public FleetSimulator fleet(int hosts, int jvmsPerHost) {
+		hosts_ = hosts;
+		jvmsPerHost_ = jvmsPerHost;
+		return this;
+	}
+
+	/**
+	 * @param rounds
+	 *            the number of rounds every JVM generates in
+	 * @param idsPerRound
+	 *            the number of UUIDs per JVM per round
+	 */
+	public FleetSimulator load(int rounds, int idsPerRound) {
+		rounds_ = rounds;
+		idsPerRound_ = idsPerRound;
+		return this;
+	}
+
+	/**
+	 * @param containers
+	 *            true when JVMs run in containers on a default bridge network,
+	 *            so the n-th container of every host has the same addresses
+	 */
+	public FleetSimulator containers(boolean containers) {
+		containers_ = containers;
+		return this;
+	}
+
+	/**
+	 * @param startSpreadMs
+	 *            the time over which the fleet is started
+	 * @param minUpTimeMs
+	 *            the least time from JVM start to node creation
+	 * @param upTimeSpreadMs
+	 *            the spread of that time
+	 */
+	public FleetSimulator startup(long startSpreadMs, int minUpTimeMs, int upTimeSpreadMs) {
+		startSpreadMs_ = startSpreadMs;
+		minUpTimeMs_ = minUpTimeMs;
+		upTimeSpreadMs_ = upTimeSpreadMs;
+		return this;
+	}
+
+	/**
+	 * @param identityHashes
+	 *            the number of distinct identity hash codes a node can get, the
+	 *            first identity hashes of identical JVMs may repeat
+	 */
+	public FleetSimulator identityHashes(int identityHashes) {
+		identityHashes_ = identityHashes;
+		return this;
+	}
+
+	/**
+	 * @param idsPerMs
+	 *            the UUIDs a JVM generates per millisecond of its clock
+	 * @param clockOffsetMs
+	 *            the largest offset between host clocks
+	 * @param clockStepRate
+	 *            the chance per JVM per round that its clock steps back
+	 * @param clockStepMs
+	 *            the size of a step
+	 */
+	public FleetSimulator clocks(int idsPerMs, long clockOffsetMs, double clockStepRate, int clockStepMs) {
+		idsPerMs_ = idsPerMs;
+		clockOffsetMs_ = clockOffsetMs;
+		clockStepRate_ = clockStepRate;
+		clockStepMs_ = clockStepMs;
+		return this;
+	}
+
+	/**
+	 * @param restartRate
+	 *            the chance per JVM per round that it restarts
+	 */
+	public FleetSimulator restarts(double restartRate) {
+		restartRate_ = restartRate;
+		return this;
+	}
+
+	/**
+	 * @param seed
+	 *            the seed of all randomness
+	 */
+	public FleetSimulator seed(long seed) {
+		seed_ = seed;
+		return this;
+	}
+
+	/**
+	 * Run the simulation
+	 */
+	public Report run() {
+		random_ = new Random(seed_);
+		report_ = new Report();
+
+		int count = hosts_ * jvmsPerHost_;
+		long deploy = 1700000000000L;
+		long[] hostOffsets = new long[hosts_];
+		for (int h = 0; h < hosts_; h++) {
+			hostOffsets[h] = (long) (random_.nextDouble() * clockOffsetMs_);
+		}
+
+		long expected = (long) count * rounds_ * idsPerRound_;
+		UUIDSet uuids = new UUIDSet((int) Math.min(expected, Integer.MAX_VALUE / 2));
+		UUIDSet nodes = new UUIDSet(count * 2);
+		UUIDSet clocks = new UUIDSet(count * 2);
+		long[] msb = new long[idsPerRound_];
+		long[] lsb = new long[idsPerRound_];
+
+		long start = System.nanoTime();
+		Jvm[] jvms = new Jvm[count];
+		boolean[] fresh = new boolean[count];
+		for (int j = 0; j < count; j++) {
+			int host = j / jvmsPerHost_;
+			long now = deploy + hostOffsets[host] + (long) (random_.nextDouble() * startSpreadMs_);
+			jvms[j] = new Jvm(host, j % jvmsPerHost_, new SimulatedClock(now, idsPerMs_));
+			jvms[j].start();
+			fresh[j] = true;
+		}
+
+		for (int round = 0; round < rounds_; round++) {
+			for (int j = 0; j < count; j++) {
+				Jvm jvm = jvms[j];
+				if (round > 0 && random_.nextDouble() < restartRate_) {
+					jvm.start();
+					report_.restarts_++;
+					fresh[j] = true;
+				}
+				if (random_.nextDouble() < clockStepRate_) {
+					jvm.clock_.now_ -= clockStepMs_;
+					report_.clockSteps_++;
+				}
+
+				jvm.generator_.next(msb, lsb, 0, idsPerRound_);
+				if (fresh[j]) {
+					long node = UUIDBits.node(lsb[0]);
+					if (!nodes.add(0, node)) {
+						report_.nodeCollisions_++;
+					}
+					if (!clocks.add(node, UUIDBits.clockSequence(lsb[0]))) {
+						report_.clockSequenceReuses_++;
+					}
+					fresh[j] = false;
+				}
+
+				for (int i = 0; i < idsPerRound_; i++) {
+					if (!uuids.add(msb[i], lsb[i])) {
+						report_.duplicates_++;
+					}
+				}
+				report_.uuids_ += idsPerRound_;
+			}
+		}
+
+		report_.elapsedNs_ = System.nanoTime() - start;
+		return report_;
+	}
+}
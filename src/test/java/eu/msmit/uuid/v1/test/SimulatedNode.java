@@ -0,0 +1,70 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import eu.msmit.uuid.v1.Node;
+
+/**
+ * A {@link Node} of a simulated JVM, from the same digest inputs a real JVM in
+ * that environment would use. All JVMs run the same image: same OS, same JVM,
+ * same class path, command and working directory.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class SimulatedNode extends Node {
+
+	/**
+	 * @param hwAddr
+	 *            the hardware address of the only interface
+	 * @param hostAddr
+	 *            the address of that interface
+	 * @param startTime
+	 *            the start time of the JVM
+	 * @param upTime
+	 *            the time between the start and the creation of the node
+	 * @param instanceId
+	 *            the identity hash code of the node instance
+	 */
+	public SimulatedNode(byte[] hwAddr, String hostAddr, long startTime, long upTime, int instanceId) {
+		super(elements(hwAddr, hostAddr, startTime, upTime, instanceId));
+	}
+
+	private static List<String> elements(byte[] hwAddr, String hostAddr, long startTime, long upTime,
+			int instanceId) {
+		List<String> nodeElms = new ArrayList<>(16);
+		nodeElms.add("hwAddr=" + Arrays.toString(hwAddr));
+		nodeElms.add("hostAddr=" + hostAddr);
+
+		nodeElms.add("os.name=Linux");
+		nodeElms.add("os.arch=amd64");
+		nodeElms.add("os.version=5.15.0-91-generic");
+		nodeElms.add("java.vm.version=17.0.9+9");
+		nodeElms.add("java.vm.vendor=Eclipse Adoptium");
+		nodeElms.add("java.vm.name=OpenJDK 64-Bit Server VM");
+		nodeElms.add("java.class.path=/app/app.jar");
+		nodeElms.add("sun.java.command=/app/app.jar");
+
+		nodeElms.add("proc=" + startTime + ";" + upTime);
+		nodeElms.add("cwd=/app/.");
+		nodeElms.add("instanceId=" + instanceId);
+		return nodeElms;
+	}
+}
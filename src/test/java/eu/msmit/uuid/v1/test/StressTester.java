@@ -0,0 +1,198 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import eu.msmit.uuid.v1.Generator;
+
+/**
+ * Hammers a {@link Generator} from many threads for a fixed duration, then
+ * verifies the recorded UUIDs.
+ * 
+ * <ul>
+ * <li>All UUIDs must be globally unique.</li>
+ * <li>For version 1 UUIDs, the UUIDs a thread received from a single node
+ * (lane) must have increasing timestamps. A timestamp may only go back when
+ * the clock sequence changed as well, which is how skew is handled.</li>
+ * </ul>
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class StressTester {
+
+	/**
+	 * The outcome of a stress run
+	 */
+	public static class Result {
+		private long uuids_;
+		private long duplicates_;
+		private long regressions_;
+		private long violations_;
+		private long elapsedNs_;
+
+		/**
+		 * @return the number of generated UUIDs
+		 */
+		public long getUUIDs() {
+			return uuids_;
+		}
+
+		/**
+		 * @return the number of UUIDs that were generated before
+		 */
+		public long getDuplicates() {
+			return duplicates_;
+		}
+
+		/**
+		 * @return the number of times a timestamp went back, with a new clock
+		 *         sequence
+		 */
+		public long getRegressions() {
+			return regressions_;
+		}
+
+		/**
+		 * @return the number of times a timestamp did not increase, without a
+		 *         new clock sequence
+		 */
+		public long getViolations() {
+			return violations_;
+		}
+
+		/**
+		 * @return UUIDs per second over all threads
+		 */
+		public long getThroughput() {
+			return elapsedNs_ == 0 ? 0 : uuids_ * 1000000000L / elapsedNs_;
+		}
+
+		@Override
+		public String toString() {
+			return "uuids=" + uuids_ + ", duplicates=" + duplicates_ + ", regressions=" + regressions_
+					+ ", violations=" + violations_ + ", throughput=" + getThroughput() + "/s";
+		}
+	}
+
+	private final int threads_;
+	private final long durationMs_;
+	private final int maxPerThread_;
+
+	/**
+	 * @param threads
+	 *            the number of concurrent threads
+	 * @param durationMs
+	 *            how long to run
+	 * @param maxPerThread
+	 *            stop a thread early after this many UUIDs, bounds memory
+	 */
+	public StressTester(int threads, long durationMs, int maxPerThread) {
+		threads_ = threads;
+		durationMs_ = durationMs;
+		maxPerThread_ = maxPerThread;
+	}
+
+	public Result run(final Generator generator) throws Exception {
+		final UUIDCollector[] collectors = new UUIDCollector[threads_];
+		final long[] elapsed = new long[threads_];
+		final CyclicBarrier barrier = new CyclicBarrier(threads_);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread[] workers = new Thread[threads_];
+
+		for (int t = 0; t < threads_; t++) {
+			final int index = t;
+			collectors[t] = new UUIDCollector(1 << 16);
+			workers[t] = new Thread("stress-" + t) {
+				@Override
+				public void run() {
+					try {
+						UUIDCollector collector = collectors[index];
+						barrier.await();
+
+						long start = System.nanoTime();
+						long deadline = start + durationMs_ * 1000000L;
+						for (int i = 0; i < maxPerThread_; i++) {
+							collector.add(generator.next());
+							if ((i & 0xFF) == 0 && System.nanoTime() > deadline) {
+								break;
+							}
+						}
+						elapsed[index] = System.nanoTime() - start;
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					}
+				}
+			};
+			workers[t].start();
+		}
+
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		if (failure.get() != null) {
+			throw new Exception("Stress thread failed", failure.get());
+		}
+
+		return verify(collectors, elapsed);
+	}
+
+	private Result verify(UUIDCollector[] collectors, long[] elapsed) {
+		Result result = new Result();
+
+		for (int t = 0; t < collectors.length; t++) {
+			result.uuids_ += collectors[t].size();
+			result.elapsedNs_ = Math.max(result.elapsedNs_, elapsed[t]);
+		}
+
+		UUIDSet uniq = new UUIDSet((int) result.uuids_);
+		for (UUIDCollector collector : collectors) {
+			Map<Long, UUID> lanes = new HashMap<>();
+
+			for (int i = 0; i < collector.size(); i++) {
+				long msb = collector.msb(i);
+				long lsb = collector.lsb(i);
+
+				if (!uniq.add(msb, lsb)) {
+					result.duplicates_++;
+				}
+
+				UUID uuid = new UUID(msb, lsb);
+				if (uuid.version() != 1) {
+					continue;
+				}
+
+				UUID prev = lanes.put(uuid.node(), uuid);
+				if (prev == null || prev.timestamp() < uuid.timestamp()) {
+					continue;
+				}
+
+				if (prev.clockSequence() != uuid.clockSequence()) {
+					result.regressions_++;
+				} else {
+					result.violations_++;
+				}
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.AdaptiveGenerator;
+import eu.msmit.uuid.v1.Node;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestAdaptive extends TestCase {
+
+	@Test
+	public void testUncontended() throws Exception {
+		AdaptiveGenerator gen = new AdaptiveGenerator(new Node(), 3, false);
+		assertEquals(4, gen.getMaxLanes());
+
+		for (int i = 0; i < 100000; i++) {
+			gen.next();
+		}
+		assertEquals(1, gen.getLanes());
+		assertEquals(0, gen.getContentions());
+	}
+
+	/**
+	 * The system clock, except the first read after {@link #hold()} blocks
+	 * until {@link #release()}, while the reading lane holds its lock
+	 */
+	private static class HoldingClock extends Clock {
+		private final AtomicBoolean hold_ = new AtomicBoolean();
+		private final CountDownLatch held_ = new CountDownLatch(1);
+		private final CountDownLatch released_ = new CountDownLatch(1);
+
+		void hold() {
+			hold_.set(true);
+		}
+
+		void release() {
+			released_.countDown();
+		}
+
+		@Override
+		public long millis() {
+			if (hold_.compareAndSet(true, false)) {
+				held_.countDown();
+				try {
+					released_.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return System.currentTimeMillis();
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	@Test
+	public void testGrowAndShrink() throws Exception {
+		HoldingClock clock = new HoldingClock();
+		AdaptiveGenerator gen = new AdaptiveGenerator(new Node(), 16, true, clock, new Random());
+
+		// Keep the only lane locked, every other caller contends once
+		clock.hold();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int t = 0; t < 9; t++) {
+			Thread thread = new Thread(gen::next);
+			thread.start();
+			threads.add(thread);
+			if (t == 0) {
+				assertTrue(clock.held_.await(5, TimeUnit.SECONDS));
+			}
+		}
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (gen.getContentions() < 8 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(8, gen.getContentions());
+		assertEquals(2, gen.getLanes());
+
+		clock.release();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// A second without contention
+		Thread.sleep(1100);
+		for (int i = 0; i < 1024; i++) {
+			gen.next();
+		}
+		assertEquals(1, gen.getLanes());
+		assertEquals(8, gen.getContentions());
+	}
+
+	@Test
+	public void testConcurrentUnique() throws Exception {
+		AdaptiveGenerator gen = new AdaptiveGenerator(new Node(), 16, true);
+		StressTester.Result result = new StressTester(16, 500, 200000).run(gen);
+		System.out.println("AdaptiveGenerator: " + result + ", lanes=" + gen.getLanes() + ", contentions="
+				+ gen.getContentions());
+
+		assertEquals(0, result.getDuplicates());
+		assertEquals(0, result.getViolations());
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.Generator;
+import eu.msmit.uuid.v1.HybridClockGenerator;
+import eu.msmit.uuid.v1.KSortedGenerator;
+import eu.msmit.uuid.v1.NameBasedGenerator;
+import eu.msmit.uuid.v1.ParallelGenerator;
+import eu.msmit.uuid.v1.PartitionedGenerator;
+import eu.msmit.uuid.v1.Type3Wrapper;
+import eu.msmit.uuid.v1.Type5Wrapper;
+import eu.msmit.uuid.v1.UUIDv1;
+import junit.framework.TestCase;
+
+/**
+ * Allocation budgets of the hot paths, in bytes per UUID. Primitive paths
+ * must not allocate, object paths allocate only the UUID. Allocations that
+ * happen once per millisecond or less, such as reseeding, are allowed as
+ * slack, which is far below the size of any per call allocation.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestAllocation extends TestCase {
+	private static final int CALLS = 1000000;
+	private static final double SLACK = 0.5;
+
+	private final AllocationMeter meter_ = new AllocationMeter(CALLS);
+
+	private void assertBudget(String path, double budget, AllocationMeter.Task task) {
+		double bytes = meter_.measure(task);
+		System.out.println(path + ": " + bytes + " bytes per UUID");
+		assertTrue(path + " allocates " + bytes + " bytes per UUID, budget " + budget, bytes <= budget + SLACK);
+	}
+
+	private void assertPrimitive(String path, final Generator generator) {
+		final long[] msb = new long[1];
+		final long[] lsb = new long[1];
+		assertBudget(path, 0, i -> {
+			generator.next(msb, lsb, 0, 1);
+			return msb;
+		});
+	}
+
+	private void assertObject(String path, final Generator generator) {
+		assertBudget(path, meter_.uuidSize(), i -> generator.next());
+	}
+
+	@Test
+	public void testPrimitivePaths() throws Exception {
+		if (!meter_.isSupported()) {
+			return;
+		}
+		assertPrimitive("default batch", new DefaultGenerator());
+		assertPrimitive("hlc batch", new HybridClockGenerator());
+		assertPrimitive("parallel batch", new ParallelGenerator());
+		assertPrimitive("partitioned batch", new PartitionedGenerator());
+		assertPrimitive("ksorted batch", new KSortedGenerator());
+	}
+
+	@Test
+	public void testObjectPaths() throws Exception {
+		if (!meter_.isSupported()) {
+			return;
+		}
+		assertObject("default", new DefaultGenerator());
+		assertObject("hlc", new HybridClockGenerator());
+		assertObject("parallel", new ParallelGenerator());
+		assertObject("partitioned", new PartitionedGenerator());
+		assertObject("ksorted", new KSortedGenerator());
+		assertObject("facade", UUIDv1.getGenerator());
+	}
+
+	@Test
+	public void testDigestPaths() throws Exception {
+		if (!meter_.isSupported()) {
+			return;
+		}
+		assertObject("type3", new Type3Wrapper().wrap(new DefaultGenerator()));
+		assertObject("type5", new Type5Wrapper().wrap(new ParallelGenerator()));
+		assertPrimitive("type5 batch", new Type5Wrapper().wrap(new DefaultGenerator()));
+
+		final NameBasedGenerator names = NameBasedGenerator.v5(NameBasedGenerator.NAMESPACE_DNS);
+		final String[] keys = new String[1024];
+		for (int k = 0; k < keys.length; k++) {
+			keys[k] = "order-" + k + ".example.com";
+		}
+		assertBudget("name based", meter_.uuidSize(), i -> names.generate(keys[i & (keys.length - 1)]));
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.BackfillGenerator;
+import eu.msmit.uuid.v1.UUIDBits;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestBackfill extends TestCase {
+
+	@Test
+	public void testTimestamp() throws Exception {
+		Instant instant = Instant.parse("2001-09-09T01:46:40.123Z");
+		UUID uuid = new BackfillGenerator().next(instant);
+
+		assertEquals(1, uuid.version());
+		assertEquals(instant.toEpochMilli(), UUIDBits.millis(uuid.timestamp()));
+	}
+
+	@Test
+	public void testSpill() throws Exception {
+		BackfillGenerator gen = new BackfillGenerator();
+		long millis = System.currentTimeMillis() - 1000000L;
+		UUIDSet uniq = new UUIDSet(25000);
+		UUIDSet clocks = new UUIDSet(4);
+
+		for (int i = 0; i < 25000; i++) {
+			UUID uuid = gen.next(millis);
+			assertTrue(uniq.add(uuid));
+			assertEquals(millis, UUIDBits.millis(uuid.timestamp()));
+			clocks.add(0, uuid.clockSequence());
+		}
+		assertEquals(3, clocks.size());
+		assertEquals(1, gen.getMilliseconds());
+	}
+
+	@Test
+	public void testUnsorted() throws Exception {
+		BackfillGenerator gen = new BackfillGenerator();
+		Random random = new Random(1);
+		int count = 1000000;
+		long base = 1000000000000L;
+		long[] millis = new long[count];
+		for (int i = 0; i < count; i++) {
+			millis[i] = base + random.nextInt(50000);
+		}
+
+		UUID[] uuids = gen.next(millis);
+		UUIDSet uniq = new UUIDSet(count);
+		for (int i = 0; i < count; i++) {
+			assertTrue(uniq.add(uuids[i]));
+			assertEquals(millis[i], UUIDBits.millis(uuids[i].timestamp()));
+		}
+	}
+
+	@Test
+	public void testStream() throws Exception {
+		BackfillGenerator gen = new BackfillGenerator();
+		long base = 1000000000000L;
+		assertEquals(100000, gen.next(LongStream.range(0, 100000).map(i -> base + i / 100)).distinct().count());
+		assertEquals(1000, gen.getMilliseconds());
+	}
+
+	@Test
+	public void testRange() throws Exception {
+		BackfillGenerator gen = new BackfillGenerator();
+		long first = -UUIDBits.UUID_EPOCH_TO_UTC_EPOCH_MS;
+		long last = (1L << 60) / UUIDBits.TICKS_PER_MS - 1 + first;
+
+		assertEquals(0, gen.next(first).timestamp());
+		assertEquals(UUIDBits.ticks(last), gen.next(last).timestamp());
+
+		long[][] invalid = { { first - 1 }, { last + 1 }, { 0, Long.MIN_VALUE } };
+		for (long[] millis : invalid) {
+			try {
+				gen.next(millis);
+				fail();
+			} catch (IllegalArgumentException e) {
+			}
+		}
+		try {
+			gen.next(last + 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+}
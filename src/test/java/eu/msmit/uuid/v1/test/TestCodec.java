@@ -0,0 +1,131 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.ParallelGenerator;
+import eu.msmit.uuid.v1.UUIDBits;
+import eu.msmit.uuid.v1.codec.BlockDecoder;
+import eu.msmit.uuid.v1.codec.BlockEncoder;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestCodec extends TestCase {
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		int count = 1000000;
+		long[] msb = new long[count];
+		long[] lsb = new long[count];
+		new ParallelGenerator(4).next(msb, lsb, 0, count);
+
+		byte[] block = BlockEncoder.encode(msb, lsb, 0, count);
+		assertTrue("bytes per UUID " + (double) block.length / count, block.length < count * 4);
+
+		UUIDSet expected = new UUIDSet(count);
+		for (int i = 0; i < count; i++) {
+			expected.add(msb[i], lsb[i]);
+		}
+
+		BlockDecoder decoder = new BlockDecoder(block);
+		assertEquals(count, decoder.size());
+
+		long[] outMsb = new long[1000];
+		long[] outLsb = new long[1000];
+		UUIDSet decoded = new UUIDSet(count);
+		int n;
+		while ((n = decoder.read(outMsb, outLsb, 0, outMsb.length)) >= 0) {
+			for (int i = 0; i < n; i++) {
+				assertTrue(decoded.add(outMsb[i], outLsb[i]));
+				assertTrue(expected.contains(outMsb[i], outLsb[i]));
+			}
+		}
+		assertEquals(0, decoder.remaining());
+		assertEquals(count, decoded.size());
+	}
+
+	@Test
+	public void testGroups() throws Exception {
+		Random random = new Random(7);
+		BlockEncoder encoder = new BlockEncoder();
+		UUID[] uuids = new UUID[5000];
+		for (int i = 0; i < uuids.length; i++) {
+			long ts = UUIDBits.ticks(random.nextInt(1 << 30));
+			long lsb = UUIDBits.lsb(random.nextInt(3), random.nextInt(5));
+			uuids[i] = new UUID(UUIDBits.msb(ts), lsb);
+			encoder.add(uuids[i]);
+		}
+		encoder.add(uuids[0]);
+
+		BlockDecoder decoder = new BlockDecoder(encoder.encode());
+		long[] msb = new long[7];
+		long[] lsb = new long[7];
+		long prevLsb = 0;
+		long prevTs = 0;
+		int n, total = 0, duplicates = 0;
+		while ((n = decoder.read(msb, lsb, 0, msb.length)) >= 0) {
+			for (int i = 0; i < n; i++) {
+				long ts = UUIDBits.timestamp(msb[i]);
+				if (lsb[i] == prevLsb) {
+					assertTrue(ts >= prevTs);
+					if (ts == prevTs) {
+						duplicates++;
+					}
+				}
+				prevLsb = lsb[i];
+				prevTs = ts;
+				total++;
+			}
+		}
+		assertEquals(uuids.length + 1, total);
+		assertEquals(1, duplicates);
+	}
+
+	@Test
+	public void testRejects() throws Exception {
+		try {
+			new BlockEncoder().add(UUID.randomUUID());
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+
+		long[] msb = new long[100];
+		long[] lsb = new long[100];
+		new ParallelGenerator(1).next(msb, lsb, 0, msb.length);
+		byte[] block = BlockEncoder.encode(msb, lsb, 0, msb.length);
+
+		try {
+			new BlockDecoder(new byte[] { 'X', '1', 1, 0, 0, 0 });
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+
+		BlockDecoder truncated = new BlockDecoder(Arrays.copyOf(block, block.length / 2));
+		try {
+			truncated.read(msb, lsb, 0, msb.length);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+}
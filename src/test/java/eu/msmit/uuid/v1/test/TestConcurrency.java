@@ -0,0 +1,67 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.Generator;
+import eu.msmit.uuid.v1.ParallelGenerator;
+import eu.msmit.uuid.v1.Type5Wrapper;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestConcurrency extends TestCase {
+
+	private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+	private final StressTester tester_ = new StressTester(THREADS, 500, 250000);
+
+	private StressTester.Result stress(Generator generator) throws Exception {
+		StressTester.Result result = tester_.run(generator);
+		System.out.println(generator.getClass().getName() + ": " + result);
+
+		assertTrue(result.getUUIDs() > 0);
+		assertEquals(0, result.getDuplicates());
+		assertEquals(0, result.getViolations());
+		return result;
+	}
+
+	@Test
+	public void testDefaultGenerator() throws Exception {
+		StressTester.Result result = stress(new DefaultGenerator());
+		assertEquals(0, result.getRegressions());
+	}
+
+	@Test
+	public void testParallelGenerator() throws Exception {
+		StressTester.Result result = stress(new ParallelGenerator());
+		assertEquals(0, result.getRegressions());
+	}
+
+	@Test
+	public void testSkewingGenerator() throws Exception {
+		stress(new SkewingGenerator());
+	}
+
+	@Test
+	public void testWrapper() throws Exception {
+		stress(new Type5Wrapper().wrap(new ParallelGenerator()));
+	}
+}
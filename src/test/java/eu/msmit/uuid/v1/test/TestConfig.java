@@ -0,0 +1,147 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Properties;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.AdaptiveGenerator;
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.Generator;
+import eu.msmit.uuid.v1.GeneratorConfig;
+import eu.msmit.uuid.v1.HybridClockGenerator;
+import eu.msmit.uuid.v1.Node;
+import eu.msmit.uuid.v1.ParallelGenerator;
+import eu.msmit.uuid.v1.PartitionedGenerator;
+import eu.msmit.uuid.v1.UUIDBits;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestConfig extends TestCase {
+
+	private static GeneratorConfig config(String... pairs) {
+		Properties properties = new Properties();
+		for (int i = 0; i < pairs.length; i += 2) {
+			properties.setProperty(pairs[i], pairs[i + 1]);
+		}
+		return new GeneratorConfig(properties);
+	}
+
+	@Test
+	public void testGenerators() throws Exception {
+		assertTrue(config().create() instanceof ParallelGenerator);
+		assertTrue(config("generator", "hlc", "clock", "monotonic").create() instanceof HybridClockGenerator);
+		assertTrue(config("generator", "partitioned", "lanes", "2").create() instanceof PartitionedGenerator);
+		assertEquals(2, ((PartitionedGenerator) config("generator", "partitioned", "lanes", "2").create())
+				.getPartitions());
+		assertTrue(config("generator", "partitioned", "clock", "monotonic", "random", "fast")
+				.create() instanceof PartitionedGenerator);
+		assertTrue(config("generator", "adaptive", "clock", "monotonic", "random", "fast")
+				.create() instanceof AdaptiveGenerator);
+
+		Generator parallel = config("generator", "parallel", "lanes", "3", "random", "fast").create();
+		UUIDSet nodes = new UUIDSet(8);
+		for (int i = 0; i < 30; i++) {
+			nodes.add(0, parallel.next().node());
+		}
+		assertEquals(3, nodes.size());
+	}
+
+	@Test
+	public void testWrappers() throws Exception {
+		GeneratorConfig config = config("v5", "default");
+		Generator shared = config.create();
+		assertEquals(3, config.createWrapper(3, () -> shared).next().version());
+		assertEquals(5, config.createWrapper(5, () -> {
+			throw new AssertionError("v5 has a generator of its own");
+		}).next().version());
+	}
+
+	@Test
+	public void testWrapperLanes() throws Exception {
+		GeneratorConfig config = config("generator", "parallel", "lanes", "8", "v5", "default", "v3", "parallel",
+				"v3.lanes", "3");
+		Generator shared = config.create();
+		assertEquals(5, config.createWrapper(5, () -> shared).next().version());
+
+		Generator v3 = config.createWrapper(3, () -> shared);
+		assertEquals(3, v3.next().version());
+	}
+
+	@Test
+	public void testInvalid() throws Exception {
+		String[][] invalid = { { "generator", "unknown" }, { "generator", "ksorted", "clock", "monotonic" },
+				{ "generator", "parallel", "lanes", "many" }, { "clock", "sundial" }, { "random", "dice" },
+				{ "generator", "default", "v3", "unknown" }, { "generator", "hlc", "lanes", "2" },
+				{ "generator", "ksorted", "lanes", "2" }, { "generator", "service", "random", "fast" },
+				{ "v3", "default", "v3.lanes", "2" }, { "v3", "parallel", "v3.lanes", "many" } };
+		for (String[] pairs : invalid) {
+			try {
+				GeneratorConfig config = config(pairs);
+				config.createWrapper(3, config::create);
+				fail(String.join(",", pairs));
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testClock() throws Exception {
+		Instant instant = Instant.parse("2020-02-02T20:20:20.020Z");
+		Clock fixed = Clock.fixed(instant, ZoneOffset.UTC);
+		DefaultGenerator gen = new DefaultGenerator(new Node(), fixed, new Random(1));
+
+		UUID uuid = gen.next();
+		assertEquals(instant.toEpochMilli(), UUIDBits.millis(uuid.timestamp()));
+	}
+
+	@Test
+	public void testLoad() throws Exception {
+		Path file = Files.createTempFile("uuid", ".properties");
+		try {
+			Properties properties = new Properties();
+			properties.setProperty("generator", "partitioned");
+			properties.setProperty("lanes", "2");
+			try (OutputStream out = Files.newOutputStream(file)) {
+				properties.store(out, null);
+			}
+
+			System.setProperty(GeneratorConfig.CONFIG, file.toString());
+			System.setProperty(GeneratorConfig.PREFIX + "lanes", "8");
+			GeneratorConfig config = GeneratorConfig.load();
+
+			assertEquals("partitioned", config.get("generator"));
+			assertEquals("8", config.get("lanes"));
+			assertEquals(8, ((PartitionedGenerator) config.create()).getPartitions());
+		} finally {
+			System.clearProperty(GeneratorConfig.CONFIG);
+			System.clearProperty(GeneratorConfig.PREFIX + "lanes");
+			Files.delete(file);
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.DuplicateMonitor;
+import eu.msmit.uuid.v1.Generator;
+import eu.msmit.uuid.v1.Node;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestDuplicateMonitor extends TestCase {
+
+	private static class Counter implements DuplicateMonitor.Listener {
+		final AtomicInteger duplicates_ = new AtomicInteger();
+		final AtomicInteger collisions_ = new AtomicInteger();
+
+		@Override
+		public void duplicate(UUID uuid) {
+			duplicates_.incrementAndGet();
+		}
+
+		@Override
+		public void nodeCollision(long node, UUID uuid) {
+			collisions_.incrementAndGet();
+		}
+	}
+
+	@Test
+	public void testDuplicates() throws Exception {
+		Counter counter = new Counter();
+		DuplicateMonitor monitor = new DuplicateMonitor(1, 1 << 20, 60000, counter);
+		Generator gen = monitor.wrap(new DefaultGenerator());
+
+		UUID[] uuids = new UUID[100000];
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = gen.next();
+		}
+		assertEquals(uuids.length, monitor.getSampled());
+		assertEquals(0, counter.duplicates_.get());
+
+		for (int i = 0; i < 1000; i++) {
+			monitor.issued(uuids[i]);
+		}
+		assertEquals(1000, counter.duplicates_.get());
+		assertEquals(1000, monitor.getSuspectedDuplicates());
+		assertTrue(monitor.getSampleNanos() > 0);
+	}
+
+	@Test
+	public void testSampling() throws Exception {
+		DuplicateMonitor monitor = new DuplicateMonitor(1.0 / 16, 1 << 16, 60000, new Counter());
+		Generator gen = monitor.wrap(new DefaultGenerator());
+
+		int count = 160000;
+		long[] msb = new long[count];
+		long[] lsb = new long[count];
+		gen.next(msb, lsb, 0, count);
+
+		long sampled = monitor.getSampled();
+		assertTrue("sampled " + sampled, sampled > 8000 && sampled < 12000);
+		assertEquals(0, monitor.getSuspectedDuplicates());
+	}
+
+	@Test
+	public void testFalsePositives() throws Exception {
+		Counter counter = new Counter();
+		DuplicateMonitor monitor = new DuplicateMonitor(1, 1 << 18, 60000, counter);
+		Generator gen = monitor.wrap(new DefaultGenerator());
+
+		long[] msb = new long[1 << 18];
+		long[] lsb = new long[msb.length];
+		gen.next(msb, lsb, 0, msb.length);
+
+		// About 2 expected, a filter of 10 bits per UUID gives 2500
+		assertEquals(msb.length, monitor.getSampled());
+		assertTrue(counter.duplicates_.toString(), counter.duplicates_.get() < 20);
+	}
+
+	@Test
+	public void testNodeCollision() throws Exception {
+		Node node = new Node();
+		Counter counter = new Counter();
+		DuplicateMonitor monitor = new DuplicateMonitor(1, 1 << 16, 60000, counter);
+		Generator local = monitor.wrap(new DefaultGenerator(node));
+		UUID issued = local.next();
+		assertTrue(monitor.isLocalNode(node.getValue()));
+
+		monitor.observe(new DefaultGenerator(node.derive(1)).next());
+		assertEquals(0, counter.collisions_.get());
+
+		monitor.observe(new DefaultGenerator(node).next());
+		assertEquals(1, counter.collisions_.get());
+		assertEquals(0, counter.duplicates_.get());
+
+		monitor.observe(issued);
+		assertEquals(2, counter.collisions_.get());
+		assertEquals(1, counter.duplicates_.get());
+	}
+
+	@Test
+	public void testRotation() throws Exception {
+		final AtomicLong time = new AtomicLong();
+		Counter counter = new Counter();
+		DuplicateMonitor monitor = new DuplicateMonitor(1, 1 << 16, 1000, counter) {
+			@Override
+			protected long currentTimeMs() {
+				return time.get();
+			}
+		};
+
+		UUID uuid = new DefaultGenerator().next();
+		monitor.issued(uuid);
+
+		time.set(1500);
+		monitor.issued(uuid);
+		assertEquals(1, counter.duplicates_.get());
+
+		time.set(4500);
+		monitor.issued(new DefaultGenerator().next());
+		time.set(6000);
+		monitor.issued(uuid);
+		assertEquals(1, counter.duplicates_.get());
+		assertEquals(3, monitor.getRotations());
+	}
+
+	@Test
+	public void testIdleGap() throws Exception {
+		final AtomicLong time = new AtomicLong();
+		Counter counter = new Counter();
+		DuplicateMonitor monitor = new DuplicateMonitor(1, 1 << 16, 1000, counter) {
+			@Override
+			protected long currentTimeMs() {
+				return time.get();
+			}
+		};
+
+		UUID uuid = new DefaultGenerator().next();
+		monitor.issued(uuid);
+
+		// Both windows are older than a window, neither is kept
+		time.set(2500);
+		monitor.issued(uuid);
+		assertEquals(0, counter.duplicates_.get());
+
+		for (int i = 1; i <= 10; i++) {
+			time.addAndGet(1000);
+			monitor.issued(new DefaultGenerator().next());
+		}
+		monitor.issued(uuid);
+		assertEquals(0, counter.duplicates_.get());
+		assertEquals(11, monitor.getRotations());
+	}
+}
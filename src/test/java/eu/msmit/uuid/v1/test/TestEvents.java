@@ -0,0 +1,126 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestEvents extends TestCase {
+
+	private Map<String, Integer> record(boolean enabled) throws Exception {
+		Path file = Files.createTempFile("uuid-events", ".jfr");
+		try (Recording recording = new Recording()) {
+			if (enabled) {
+				recording.enable("eu.msmit.uuid.v1.ClockSkew");
+				recording.enable("eu.msmit.uuid.v1.TickExhausted");
+				recording.enable("eu.msmit.uuid.v1.ClockSequence");
+			}
+			recording.start();
+
+			DefaultGenerator gen = new SkewingGenerator();
+			for (int i = 0; i < 1000000; i++) {
+				gen.next();
+			}
+
+			recording.stop();
+			recording.dump(file);
+
+			Map<String, Integer> counts = new HashMap<>();
+			for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+				String name = event.getEventType().getName();
+				if (name.startsWith("eu.msmit.uuid.v1.")) {
+					counts.merge(name, 1, Integer::sum);
+				}
+			}
+			return counts;
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void testDisabledByDefault() throws Exception {
+		assertTrue(record(false).isEmpty());
+	}
+
+	@Test
+	public void testEnabled() throws Exception {
+		Map<String, Integer> counts = record(true);
+		assertTrue(counts.toString(), counts.containsKey("eu.msmit.uuid.v1.ClockSkew"));
+		assertTrue(counts.toString(), counts.containsKey("eu.msmit.uuid.v1.ClockSequence"));
+	}
+
+	@Test
+	public void testSlowNext() throws Exception {
+		DefaultGenerator gen = new DefaultGenerator() {
+			private int calls_;
+
+			@Override
+			protected long currentTimeMs() {
+				if (++calls_ == 10) {
+					try {
+						Thread.sleep(20);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return super.currentTimeMs();
+			}
+		};
+
+		Path file = Files.createTempFile("uuid-events", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("eu.msmit.uuid.v1.SlowNext").withoutThreshold();
+			recording.start();
+
+			for (int i = 0; i < 20; i++) {
+				gen.next();
+			}
+
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> slow = new ArrayList<>();
+			for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+				if (event.getEventType().getName().equals("eu.msmit.uuid.v1.SlowNext")) {
+					slow.add(event);
+				}
+			}
+			assertEquals(1, slow.size());
+			assertEquals(gen.getClass().getName(), slow.get(0).getString("generator"));
+			assertTrue(slow.get(0).getLong("elapsed") >= TimeUnit.MILLISECONDS.toNanos(20));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
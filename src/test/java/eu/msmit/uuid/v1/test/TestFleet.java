@@ -0,0 +1,68 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import org.junit.Test;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestFleet extends TestCase {
+
+	@Test
+	public void testFleet() throws Exception {
+		FleetSimulator.Report report = new FleetSimulator().fleet(1000, 5).load(4, 100).restarts(0.02)
+				.clocks(100, 100, 0.02, 1000).run();
+		System.out.println("fleet: " + report);
+
+		assertEquals(5000 * 4 * 100, report.getUUIDs());
+		assertTrue(report.getRestarts() > 0);
+		assertTrue(report.getClockSteps() > 0);
+		assertEquals(0, report.getNodeCollisions());
+		assertEquals(0, report.getDuplicates());
+	}
+
+	@Test
+	public void testIdenticalStart() throws Exception {
+		// All containers deployed at once with the same identity hash, only
+		// host clock offsets and start up time tell them apart
+		FleetSimulator.Report report = new FleetSimulator().fleet(1000, 5).load(4, 100).startup(0, 300, 100)
+				.identityHashes(1).run();
+		System.out.println("identical start: " + report);
+
+		assertTrue(report.getNodeCollisions() > 0);
+		assertTrue(report.getNodeCollisions() < 1000);
+		// With the fixed seed the colliding nodes drew different clock
+		// sequences, a duplicate needs a reused one
+		assertEquals(0, report.getClockSequenceReuses());
+		assertEquals(report.getClockSequenceReuses() > 0, report.getDuplicates() > 0);
+	}
+
+	@Test
+	public void testSharedClockSequence() throws Exception {
+		// A single node for the fleet, only the random clock sequence separates JVMs
+		FleetSimulator.Report report = new FleetSimulator().fleet(500, 1).load(5, 100).startup(0, 300, 1)
+				.identityHashes(1).clocks(100, 0, 0, 0).run();
+		System.out.println("shared clock sequence: " + report);
+
+		assertEquals(499, report.getNodeCollisions());
+		assertTrue(report.getClockSequenceReuses() > 0);
+		assertTrue(report.getDuplicates() > 0);
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.GeneratorMetrics;
+import eu.msmit.uuid.v1.HybridClockGenerator;
+import eu.msmit.uuid.v1.Node;
+import eu.msmit.uuid.v1.UUIDBits;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestHybridClock extends TestCase {
+
+	/**
+	 * Steps the clock a second back after 10000 calls
+	 */
+	private static class SteppingGenerator extends HybridClockGenerator {
+		private long calls_;
+
+		@Override
+		protected long currentTimeMs() {
+			return super.currentTimeMs() - (++calls_ > 10000 ? 1000 : 0);
+		}
+	}
+
+	@Test
+	public void testMonotonicThroughStep() throws Exception {
+		SteppingGenerator gen = new SteppingGenerator();
+		GeneratorMetrics metrics = new GeneratorMetrics();
+		gen.setMetrics(metrics);
+
+		UUID first = gen.next();
+		long prev = first.timestamp();
+		for (int i = 0; i < 50000; i++) {
+			UUID uuid = gen.next();
+			assertTrue(uuid.timestamp() > prev);
+			assertEquals(first.clockSequence(), uuid.clockSequence());
+			prev = uuid.timestamp();
+		}
+
+		assertEquals(1, metrics.getBackwardSkews());
+		assertEquals(0, metrics.getClockSequenceIncrements());
+		assertTrue(metrics.getMaxLogicalLead() >= 500 * UUIDBits.TICKS_PER_MS);
+		assertTrue(gen.getLead() > 0);
+	}
+
+	@Test
+	public void testLeadBeyondMillisecond() throws Exception {
+		Clock fixed = Clock.fixed(Instant.parse("2020-02-02T20:20:20.020Z"), ZoneOffset.UTC);
+		HybridClockGenerator gen = new HybridClockGenerator(new Node(), fixed, new Random(1));
+		GeneratorMetrics metrics = new GeneratorMetrics();
+		gen.setMetrics(metrics);
+
+		for (int i = 0; i < UUIDBits.TICKS_PER_MS; i++) {
+			gen.next();
+			assertEquals(0, gen.getLead());
+		}
+		assertEquals(0, metrics.getMaxLogicalLead());
+
+		gen.next();
+		assertEquals(1, gen.getLead());
+		assertEquals(1, metrics.getMaxLogicalLead());
+	}
+
+	@Test
+	public void testConcurrent() throws Exception {
+		StressTester.Result result = new StressTester(4, 500, 200000).run(new HybridClockGenerator());
+		System.out.println("HybridClockGenerator: " + result);
+		assertEquals(0, result.getDuplicates());
+		assertEquals(0, result.getRegressions());
+		assertEquals(0, result.getViolations());
+	}
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.server.IdClient;
+import eu.msmit.uuid.v1.server.IdServer;
+import eu.msmit.uuid.v1.server.TickLease;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestIdServer extends TestCase {
+
+	@Test
+	public void testLeaseIds() throws Exception {
+		try (IdServer server = new IdServer(); IdClient client = new IdClient(server.getAddress())) {
+			int count = 100000;
+			UUIDSet uniq = new UUIDSet(count * 2);
+			for (int i = 0; i < count; i++) {
+				UUID uuid = client.next();
+				assertEquals(1, uuid.version());
+				assertTrue(uniq.add(uuid));
+			}
+
+			long[] msb = new long[count];
+			long[] lsb = new long[count];
+			client.next(msb, lsb, 0, count);
+			for (int i = 0; i < count; i++) {
+				assertTrue(uniq.add(msb[i], lsb[i]));
+			}
+		}
+	}
+
+	@Test
+	public void testClients() throws Exception {
+		final int clients = 4;
+		final int count = 50000;
+		final long[][] msb = new long[clients][count];
+		final long[][] lsb = new long[clients][count];
+
+		try (IdServer server = new IdServer()) {
+			Thread[] threads = new Thread[clients];
+			final Exception[] failure = new Exception[1];
+			for (int c = 0; c < clients; c++) {
+				final int index = c;
+				final SocketChannel channel = SocketChannel.open(server.getAddress());
+				threads[c] = new Thread() {
+					@Override
+					public void run() {
+						try (IdClient client = new IdClient(channel, 1000, 4)) {
+							for (int i = 0; i < count; i += 100) {
+								client.next(msb[index], lsb[index], i, 100);
+							}
+						} catch (Exception e) {
+							failure[0] = e;
+						}
+					}
+				};
+				threads[c].start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			assertNull(failure[0]);
+		}
+
+		UUIDSet uniq = new UUIDSet(clients * count);
+		for (int c = 0; c < clients; c++) {
+			for (int i = 0; i < count; i++) {
+				assertTrue(uniq.add(msb[c][i], lsb[c][i]));
+			}
+		}
+	}
+
+	@Test
+	public void testLeaseRange() throws Exception {
+		try (IdServer server = new IdServer(); IdClient client = new IdClient(server.getAddress())) {
+			UUID uuid = client.next();
+			TickLease first = client.lease(1000);
+			TickLease second = client.lease(1000);
+
+			assertEquals(1000, first.getTicks());
+			assertEquals(first.getNode(), second.getNode());
+			assertEquals(first.getClockSequence(), second.getClockSequence());
+			assertTrue(second.getTimestamp() >= first.getTimestamp() + 1000);
+			assertFalse(uuid.node() == first.getNode());
+
+			UUID leased = first.get(999);
+			assertEquals(1, leased.version());
+			assertEquals(first.getTimestamp() + 999, leased.timestamp());
+			assertEquals(first.getNode(), leased.node());
+
+			try {
+				client.lease(0);
+				fail();
+			} catch (IOException e) {
+			}
+			assertEquals(1, client.next().version());
+		}
+	}
+
+	/**
+	 * Answers a block request with msb = request id and lsb = index, except
+	 * for the request with the given id, which is refused
+	 */
+	private static class RefusingServer extends Thread {
+		private final ServerSocketChannel channel_;
+		private final int refused_;
+		private final int blockSize_;
+		private final AtomicInteger lastId_ = new AtomicInteger(-1);
+
+		RefusingServer(int refused, int blockSize) throws IOException {
+			channel_ = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			refused_ = refused;
+			blockSize_ = blockSize;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			try (SocketChannel conn = channel_.accept()) {
+				ByteBuffer in = ByteBuffer.allocate(9);
+				for (;;) {
+					in.clear();
+					while (in.hasRemaining()) {
+						if (conn.read(in) < 0) {
+							return;
+						}
+					}
+					in.flip();
+					in.get();
+					int id = in.getInt();
+					lastId_.set(id);
+
+					ByteBuffer out;
+					if (id == refused_) {
+						out = ByteBuffer.allocate(9).put((byte) 0x7F).putInt(id).putInt(2);
+					} else {
+						out = ByteBuffer.allocate(9 + blockSize_ * 16).put((byte) 1).putInt(id).putInt(blockSize_);
+						for (int i = 0; i < blockSize_; i++) {
+							out.putLong(id).putLong(i);
+						}
+					}
+					out.flip();
+					while (out.hasRemaining()) {
+						conn.write(out);
+					}
+				}
+			} catch (IOException e) {
+				// Closed by the test
+			}
+		}
+	}
+
+	@Test
+	public void testErrorInPipeline() throws Exception {
+		RefusingServer server = new RefusingServer(1, 2);
+		server.start();
+		try (IdClient client = new IdClient(SocketChannel.open(server.channel_.getLocalAddress()), 2, 2)) {
+			assertEquals(new UUID(0, 0), client.next());
+			assertEquals(new UUID(0, 1), client.next());
+			try {
+				client.next();
+				fail();
+			} catch (UncheckedIOException e) {
+			}
+
+			// The refused block is requested again, the pipeline stays full
+			assertEquals(new UUID(2, 0), client.next());
+			assertEquals(new UUID(2, 1), client.next());
+			assertEquals(new UUID(3, 0), client.next());
+
+			long deadline = System.currentTimeMillis() + 5000;
+			while (server.lastId_.get() < 5 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(1);
+			}
+			assertEquals(5, server.lastId_.get());
+		} finally {
+			server.channel_.close();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.KSortedGenerator;
+import eu.msmit.uuid.v1.Node;
+import eu.msmit.uuid.v1.UUIDBits;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestKSorted extends TestCase {
+
+	@Test
+	public void testConcurrent() throws Exception {
+		KSortedGenerator gen = new KSortedGenerator();
+		StressTester.Result result = new StressTester(8, 500, 200000).run(gen);
+		System.out.println("KSortedGenerator: " + result);
+
+		assertEquals(0, result.getDuplicates());
+		assertEquals(0, result.getViolations());
+		assertEquals(0, result.getRegressions());
+	}
+
+	@Test
+	public void testBoundedDisorder() throws Exception {
+		final KSortedGenerator gen = new KSortedGenerator(new Node(), 2, 16);
+		final AtomicInteger failures = new AtomicInteger();
+		Thread[] threads = new Thread[4];
+
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 200000; i++) {
+						long before = UUIDBits.ticks(System.currentTimeMillis());
+						UUID uuid = gen.next();
+						if (uuid.timestamp() < before - 2 * UUIDBits.TICKS_PER_MS) {
+							failures.incrementAndGet();
+						}
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(0, failures.get());
+	}
+
+	@Test
+	public void testBackwardsClock() throws Exception {
+		KSortedGenerator gen = new KSortedGenerator(new Node(), 1, 8) {
+			private long calls_;
+
+			@Override
+			protected long currentTimeMs() {
+				// Jump a second back every 10000 calls
+				return super.currentTimeMs() - (++calls_ / 10000) * 1000;
+			}
+		};
+
+		long prev = 0;
+		for (int i = 0; i < 100000; i++) {
+			long ts = gen.next().timestamp();
+			assertTrue(ts > prev);
+			prev = ts;
+		}
+	}
+
+	@Test
+	public void testBatchSorted() throws Exception {
+		KSortedGenerator gen = new KSortedGenerator();
+		long[] msb = new long[1000];
+		long[] lsb = new long[1000];
+		gen.next(msb, lsb, 0, 1000);
+
+		for (int i = 1; i < 1000; i++) {
+			assertEquals(UUIDBits.timestamp(msb[i - 1]) + 1, UUIDBits.timestamp(msb[i]));
+			assertEquals(gen.getClockSequence(), UUIDBits.clockSequence(lsb[i]));
+		}
+	}
+}
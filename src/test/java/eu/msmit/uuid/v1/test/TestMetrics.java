@@ -0,0 +1,90 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.GeneratorMetrics;
+import eu.msmit.uuid.v1.ParallelGenerator;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestMetrics extends TestCase {
+
+	private static final int COUNT = 1000000;
+
+	@Test
+	public void testSkewCounters() throws Exception {
+		SkewingGenerator gen = new SkewingGenerator();
+		GeneratorMetrics metrics = new GeneratorMetrics();
+		gen.setMetrics(metrics);
+
+		for (int i = 0; i < COUNT; i++) {
+			gen.next();
+		}
+
+		assertEquals(COUNT, metrics.getIssued());
+		assertTrue(metrics.getBackwardSkews() > 0);
+		assertTrue(metrics.getClockSequenceIncrements() > 0);
+		assertTrue(metrics.getGaps() > 0);
+		assertEquals(0, metrics.getLaneIssued().length);
+
+		metrics.reset();
+		assertEquals(0, metrics.getIssued());
+	}
+
+	@Test
+	public void testLanes() throws Exception {
+		ParallelGenerator gen = new ParallelGenerator(3);
+		GeneratorMetrics metrics = new GeneratorMetrics(3);
+		gen.setMetrics(metrics);
+
+		for (int i = 0; i < 300; i++) {
+			gen.next();
+		}
+
+		long[] lanes = metrics.getLaneIssued();
+		assertEquals(3, lanes.length);
+		for (long lane : lanes) {
+			assertEquals(100, lane);
+		}
+		assertEquals(300, metrics.getIssued());
+	}
+
+	@Test
+	public void testRegister() throws Exception {
+		DefaultGenerator gen = new DefaultGenerator();
+		GeneratorMetrics metrics = new GeneratorMetrics();
+		gen.setMetrics(metrics);
+		ObjectName name = metrics.register("test");
+		try {
+			gen.next();
+			Object issued = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Issued");
+			assertEquals(Long.valueOf(1), issued);
+		} finally {
+			metrics.unregister();
+		}
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+	}
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.NameBasedGenerator;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestNameBased extends TestCase {
+
+	@Test
+	public void testKnownValues() throws Exception {
+		NameBasedGenerator v3 = NameBasedGenerator.v3(NameBasedGenerator.NAMESPACE_DNS);
+		NameBasedGenerator v5 = NameBasedGenerator.v5(NameBasedGenerator.NAMESPACE_DNS);
+
+		assertEquals(UUID.fromString("5df41881-3aed-3515-88a7-2f4a814cf09e"), v3.generate("www.example.com"));
+		assertEquals(UUID.fromString("2ed6657d-e927-568b-95e1-2665a8aea6a2"), v5.generate("www.example.com"));
+		assertEquals(5, v5.generate("www.example.com").version());
+		assertEquals(2, v5.generate("www.example.com").variant());
+	}
+
+	@Test
+	public void testEncodings() throws Exception {
+		UUID namespace = UUID.randomUUID();
+		NameBasedGenerator gen = NameBasedGenerator.v3(namespace);
+		Random random = new Random(5);
+
+		for (int i = 0; i < 2000; i++) {
+			char[] chars = new char[random.nextInt(600)];
+			for (int c = 0; c < chars.length; c++) {
+				switch (random.nextInt(4)) {
+				case 0:
+					chars[c] = (char) random.nextInt(0x80);
+					break;
+				case 1:
+					chars[c] = (char) random.nextInt(0x800);
+					break;
+				default:
+					chars[c] = (char) random.nextInt(0x10000);
+				}
+			}
+			String name = new String(chars);
+			byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+
+			ByteBuffer all = ByteBuffer.allocate(16 + bytes.length);
+			all.putLong(namespace.getMostSignificantBits()).putLong(namespace.getLeastSignificantBits()).put(bytes);
+			UUID expected = UUID.nameUUIDFromBytes(all.array());
+
+			assertEquals(expected, gen.generate(name));
+			assertEquals(expected, gen.generate(new StringBuilder(name)));
+			assertEquals(expected, gen.generate(bytes));
+
+			ByteBuffer buf = ByteBuffer.wrap(bytes);
+			assertEquals(expected, gen.generate(buf));
+			assertEquals(0, buf.position());
+		}
+	}
+
+	@Test
+	public void testBatch() throws Exception {
+		NameBasedGenerator gen = NameBasedGenerator.v5(NameBasedGenerator.NAMESPACE_URL);
+		String[] names = new String[10000];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = "https://example.com/orders/" + i;
+		}
+
+		UUID[] uuids = gen.generate(names);
+		UUIDSet uniq = new UUIDSet(names.length);
+		for (int i = 0; i < names.length; i++) {
+			assertEquals(gen.generate(names[i]), uuids[i]);
+			assertTrue(uniq.add(uuids[i]));
+		}
+	}
+
+	@Test
+	public void testAfterFailure() throws Exception {
+		NameBasedGenerator gen = NameBasedGenerator.v5(NameBasedGenerator.NAMESPACE_DNS);
+		UUID expected = gen.generate("example.com");
+
+		try {
+			gen.generate((CharSequence) null);
+			fail();
+		} catch (NullPointerException e) {
+		}
+		assertEquals(expected, gen.generate("example.com"));
+
+		try {
+			gen.generate(new byte[4], 2, 10);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		assertEquals(expected, gen.generate("example.com"));
+
+		try {
+			gen.generate("www.example.com", null);
+			fail();
+		} catch (NullPointerException e) {
+		}
+		assertEquals(expected, gen.generate("example.com"));
+		assertEquals(expected, gen.generate("example.com", "example.com")[1]);
+	}
+}
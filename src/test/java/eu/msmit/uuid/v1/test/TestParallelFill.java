@@ -0,0 +1,107 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.Node;
+import eu.msmit.uuid.v1.ParallelFill;
+import eu.msmit.uuid.v1.TimeSort;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestParallelFill extends TestCase {
+
+	private static final int COUNT = 2000000;
+
+	@Test
+	public void testDerive() throws Exception {
+		Node node = new Node();
+		assertEquals(node.derive(1), node.derive(1));
+		assertFalse(node.derive(1).equals(node.derive(2)));
+		assertFalse(node.equals(node.derive(0)));
+	}
+
+	@Test
+	public void testFillUnique() throws Exception {
+		long[] msb = new long[COUNT];
+		long[] lsb = new long[COUNT];
+		new ParallelFill().fill(msb, lsb);
+
+		UUIDSet uniq = new UUIDSet(COUNT);
+		for (int i = 0; i < COUNT; i++) {
+			assertTrue(uniq.add(msb[i], lsb[i]));
+			assertEquals(1, new UUID(msb[i], lsb[i]).version());
+		}
+	}
+
+	@Test
+	public void testFillSorted() throws Exception {
+		long[] msb = new long[COUNT + 2];
+		long[] lsb = new long[COUNT + 2];
+		new ParallelFill(new ForkJoinPool(4), new Node()).fill(msb, lsb, 1, COUNT, true);
+
+		assertEquals(0, msb[0]);
+		assertEquals(0, msb[COUNT + 1]);
+		for (int i = 2; i <= COUNT; i++) {
+			assertTrue(TimeSort.compare(msb[i - 1], lsb[i - 1], msb[i], lsb[i]) < 0);
+		}
+	}
+
+	@Test
+	public void testFillObjects() throws Exception {
+		UUID[] uuids = new UUID[100000];
+		new ParallelFill().fill(uuids, true);
+
+		UUIDSet uniq = new UUIDSet(uuids.length);
+		for (int i = 0; i < uuids.length; i++) {
+			assertTrue(uniq.add(uuids[i]));
+			if (i > 0) {
+				assertTrue(uuids[i - 1].timestamp() <= uuids[i].timestamp());
+			}
+		}
+	}
+
+	@Test
+	public void testSort() throws Exception {
+		Random random = new Random(1);
+		int count = 100000;
+		long[] msb = new long[count];
+		long[] lsb = new long[count];
+		for (int i = 0; i < count; i++) {
+			msb[i] = random.nextLong();
+			lsb[i] = random.nextLong();
+		}
+
+		long[] msb2 = msb.clone();
+		long[] lsb2 = lsb.clone();
+		TimeSort.sort(msb, lsb, 0, count);
+		TimeSort.parallelSort(msb2, lsb2, 0, count, ForkJoinPool.commonPool());
+
+		for (int i = 1; i < count; i++) {
+			assertTrue(TimeSort.compare(msb[i - 1], lsb[i - 1], msb[i], lsb[i]) <= 0);
+			assertEquals(msb[i], msb2[i]);
+			assertEquals(lsb[i], lsb2[i]);
+		}
+	}
+}
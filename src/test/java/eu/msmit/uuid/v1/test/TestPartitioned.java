@@ -0,0 +1,120 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.Node;
+import eu.msmit.uuid.v1.PartitionedGenerator;
+import eu.msmit.uuid.v1.UUIDBits;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestPartitioned extends TestCase {
+
+	/**
+	 * A partitioned lane with a clock that regularly moves backwards
+	 */
+	private static class SkewingLane extends DefaultGenerator {
+		private Random random_;
+		private long skew_;
+
+		SkewingLane(Node node, int partition, int partitions) {
+			super(node, partition, partitions);
+		}
+
+		@Override
+		protected long currentTimeMs() {
+			if (random_ == null) {
+				random_ = new Random();
+			}
+			if (random_.nextInt(100) < 1) {
+				skew_ += random_.nextInt(100);
+			}
+			return super.currentTimeMs() - skew_;
+		}
+	}
+
+	@Test
+	public void testClockRange() throws Exception {
+		Node node = new Node();
+		for (int p = 0; p < 4; p++) {
+			DefaultGenerator lane = new SkewingLane(node, p, 1024);
+			for (int i = 0; i < 100000; i++) {
+				UUID uuid = lane.next();
+				assertEquals(node.getValue(), uuid.node());
+				assertEquals(p, uuid.clockSequence() / 16);
+			}
+		}
+	}
+
+	@Test
+	public void testSameTimestamp() throws Exception {
+		Node node = new Node();
+		DefaultGenerator a = new DefaultGenerator(node, 0, 2);
+		DefaultGenerator b = new DefaultGenerator(node, 1, 2);
+
+		UUIDSet uniq = new UUIDSet(400000);
+		for (int i = 0; i < 200000; i++) {
+			assertTrue(uniq.add(a.next()));
+			assertTrue(uniq.add(b.next()));
+		}
+	}
+
+	@Test
+	public void testClock() throws Exception {
+		Instant instant = Instant.parse("2001-01-01T01:01:01.001Z");
+		PartitionedGenerator gen = new PartitionedGenerator(new Node(), 4, Clock.fixed(instant, ZoneOffset.UTC),
+				new Random(1));
+
+		UUID uuid = gen.next();
+		assertEquals(instant.toEpochMilli(), UUIDBits.millis(uuid.timestamp()));
+	}
+
+	@Test
+	public void testInvalid() throws Exception {
+		try {
+			new PartitionedGenerator(new Node(), 3);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+		try {
+			new DefaultGenerator(new Node(), 2, 2);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testConcurrent() throws Exception {
+		PartitionedGenerator gen = new PartitionedGenerator(new Node(), 8);
+		StressTester.Result result = new StressTester(16, 500, 200000).run(gen);
+		System.out.println("PartitionedGenerator: " + result);
+
+		assertEquals(0, result.getDuplicates());
+		assertEquals(0, result.getViolations());
+	}
+}
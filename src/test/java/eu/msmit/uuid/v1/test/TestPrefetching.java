@@ -0,0 +1,104 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.ParallelGenerator;
+import eu.msmit.uuid.v1.PrefetchingGenerator;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestPrefetching extends TestCase {
+
+	@Test
+	public void testFill() throws Exception {
+		try (PrefetchingGenerator gen = new PrefetchingGenerator(new DefaultGenerator(), 1024, 64)) {
+			long deadline = System.currentTimeMillis() + 5000;
+			while (gen.getFillLevel() < gen.getCapacity() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(1);
+			}
+			assertEquals(1024, gen.getFillLevel());
+
+			for (int i = 0; i < 100; i++) {
+				assertNotNull(gen.next());
+			}
+			assertEquals(0, gen.getUnderflows());
+		}
+	}
+
+	@Test
+	public void testUnderflow() throws Exception {
+		PrefetchingGenerator gen = new PrefetchingGenerator(new DefaultGenerator(), 16, 16);
+		gen.close();
+
+		for (int i = 0; i < 100; i++) {
+			assertNotNull(gen.next());
+		}
+		assertEquals(0, gen.getFillLevel());
+		assertTrue(gen.getUnderflows() > 0);
+	}
+
+	@Test
+	public void testIdleBelowBatch() throws Exception {
+		Set<Thread> before = new HashSet<Thread>(Thread.getAllStackTraces().keySet());
+		try (PrefetchingGenerator gen = new PrefetchingGenerator(new DefaultGenerator(), 16, 16)) {
+			Thread producer = null;
+			for (Thread thread : Thread.getAllStackTraces().keySet()) {
+				if (!before.contains(thread) && thread.getName().equals("PrefetchingGenerator")) {
+					producer = thread;
+				}
+			}
+			assertNotNull(producer);
+
+			long deadline = System.currentTimeMillis() + 5000;
+			while (gen.getFillLevel() < gen.getCapacity() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(1);
+			}
+
+			// Room for less than a batch, the producer must not spin on it
+			for (int i = 0; i < 10; i++) {
+				gen.next();
+			}
+			ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+			long cpu = threads.getThreadCpuTime(producer.getId());
+			Thread.sleep(500);
+			long spent = threads.getThreadCpuTime(producer.getId()) - cpu;
+
+			assertEquals(6, gen.getFillLevel());
+			assertTrue(spent + " ns", spent < TimeUnit.MILLISECONDS.toNanos(100));
+		}
+	}
+
+	@Test
+	public void testConcurrentUnique() throws Exception {
+		try (PrefetchingGenerator gen = new PrefetchingGenerator(new ParallelGenerator())) {
+			StressTester.Result result = new StressTester(8, 500, 200000).run(gen);
+			System.out.println("PrefetchingGenerator: " + result + ", underflows=" + gen.getUnderflows());
+			assertEquals(0, result.getDuplicates());
+		}
+	}
+}
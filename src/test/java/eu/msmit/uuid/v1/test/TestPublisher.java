@@ -0,0 +1,182 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.Generator;
+import junit.framework.TestCase;
+
+/**
+ * The publisher is in the Java 9 part of the multi-release output, which is
+ * only on the test class path at runtime.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestPublisher extends TestCase {
+
+	/**
+	 * Counts the batches asked from a {@link DefaultGenerator}
+	 */
+	private static class CountingGenerator implements Generator {
+		private final DefaultGenerator generator_ = new DefaultGenerator();
+		private int batches_;
+		private long generated_;
+
+		@Override
+		public UUID next() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void next(long[] msb, long[] lsb, int offset, int length) {
+			batches_++;
+			generated_ += length;
+			generator_.next(msb, lsb, offset, length);
+		}
+	}
+
+	/**
+	 * Collects UUIDs, requesting a number of them on subscribe and one more on
+	 * every UUID until the limit
+	 */
+	private static class Collector implements Flow.Subscriber<UUID> {
+		private final long initial_;
+		private final int limit_;
+		private final Set<UUID> uuids_ = new HashSet<UUID>();
+		private final CountDownLatch done_ = new CountDownLatch(1);
+		private Flow.Subscription subscription_;
+		private Throwable error_;
+		private int depth_;
+		private int maxDepth_;
+
+		Collector(long initial, int limit) {
+			initial_ = initial;
+			limit_ = limit;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			subscription_ = subscription;
+			subscription.request(initial_);
+		}
+
+		@Override
+		public void onNext(UUID item) {
+			assertTrue(uuids_.add(item));
+			assertTrue(uuids_.size() <= limit_);
+
+			if (uuids_.size() == limit_) {
+				subscription_.cancel();
+				done_.countDown();
+			} else if (initial_ == 1) {
+				maxDepth_ = Math.max(maxDepth_, ++depth_);
+				subscription_.request(1);
+				depth_--;
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error_ = throwable;
+			done_.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			fail();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Flow.Publisher<UUID> publisher(Generator generator, int batch, Executor executor)
+			throws Exception {
+		return (Flow.Publisher<UUID>) Class.forName("eu.msmit.uuid.v1.UUIDPublisher")
+				.getConstructor(Generator.class, int.class, Executor.class).newInstance(generator, batch, executor);
+	}
+
+	@Test
+	public void testBatchedDemand() throws Exception {
+		CountingGenerator gen = new CountingGenerator();
+		Collector collector = new Collector(1000, 1010);
+		publisher(gen, 256, null).subscribe(collector);
+
+		assertEquals(1000, collector.uuids_.size());
+		assertEquals(4, gen.batches_);
+		assertEquals(1000, gen.generated_);
+
+		collector.subscription_.request(10);
+		assertEquals(1010, collector.uuids_.size());
+		assertEquals(5, gen.batches_);
+		assertNull(collector.error_);
+	}
+
+	@Test
+	public void testRequestFromOnNext() throws Exception {
+		Collector collector = new Collector(1, 100000);
+		publisher(new DefaultGenerator(), 256, null).subscribe(collector);
+
+		assertEquals(100000, collector.uuids_.size());
+		assertEquals(1, collector.maxDepth_);
+		assertNull(collector.error_);
+	}
+
+	@Test
+	public void testUnbounded() throws Exception {
+		CountingGenerator gen = new CountingGenerator();
+		Collector collector = new Collector(Long.MAX_VALUE, 10000);
+		publisher(gen, 256, null).subscribe(collector);
+
+		assertEquals(10000, collector.uuids_.size());
+		assertEquals((10000 + 255) / 256, gen.batches_);
+	}
+
+	@Test
+	public void testInvalidRequest() throws Exception {
+		Collector collector = new Collector(0, 1);
+		publisher(new DefaultGenerator(), 256, null).subscribe(collector);
+
+		assertTrue(collector.error_ instanceof IllegalArgumentException);
+		assertTrue(collector.uuids_.isEmpty());
+	}
+
+	@Test
+	public void testExecutor() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Collector collector = new Collector(1, 100000);
+			publisher(new DefaultGenerator(), 256, executor).subscribe(collector);
+
+			assertTrue(collector.done_.await(30, TimeUnit.SECONDS));
+			assertEquals(100000, collector.uuids_.size());
+			assertNull(collector.error_);
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.Generator;
+import eu.msmit.uuid.v1.GeneratorSpliterator;
+import eu.msmit.uuid.v1.ParallelGenerator;
+import eu.msmit.uuid.v1.Type3Wrapper;
+import eu.msmit.uuid.v1.UUIDBits;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestStream extends TestCase {
+
+	@Test
+	public void testBits() throws Exception {
+		Random random = new Random();
+		for (int i = 0; i < 10000; i++) {
+			long timestamp = random.nextLong() & 0x0FFFFFFFFFFFFFFFL;
+			int clock = random.nextInt();
+			long node = random.nextLong();
+			UUID uuid = new UUID(UUIDBits.msb(timestamp), UUIDBits.lsb(clock, node));
+
+			assertEquals(timestamp, uuid.timestamp());
+			assertEquals(timestamp, UUIDBits.timestamp(uuid.getMostSignificantBits()));
+			assertEquals(clock & UUIDBits.MAX_CLOCK_SEQUENCE, uuid.clockSequence());
+			assertEquals(uuid.clockSequence(), UUIDBits.clockSequence(uuid.getLeastSignificantBits()));
+			assertEquals(node & UUIDBits.MAX_NODE, uuid.node());
+			assertEquals(uuid.node(), UUIDBits.node(uuid.getLeastSignificantBits()));
+			assertEquals(1, UUIDBits.version(uuid.getMostSignificantBits()));
+			assertEquals(2, uuid.variant());
+		}
+	}
+
+	@Test
+	public void testBatch() throws Exception {
+		DefaultGenerator gen = new DefaultGenerator();
+		long[] msb = new long[10002];
+		long[] lsb = new long[10002];
+		gen.next(msb, lsb, 1, 10000);
+
+		assertEquals(0, msb[0]);
+		assertEquals(0, msb[10001]);
+		long prev = 0;
+		for (int i = 1; i <= 10000; i++) {
+			UUID uuid = new UUID(msb[i], lsb[i]);
+			assertEquals(1, uuid.version());
+			assertTrue(uuid.timestamp() > prev);
+			prev = uuid.timestamp();
+		}
+		assertTrue(gen.next().timestamp() > prev);
+	}
+
+	@Test
+	public void testStream() throws Exception {
+		assertEquals(1000, new DefaultGenerator().stream(1000).distinct().count());
+		assertEquals(1000, new Type3Wrapper().wrap(new DefaultGenerator()).stream(1000).count());
+		assertEquals(0, new DefaultGenerator().stream(0).count());
+	}
+
+	@Test
+	public void testParallelStream() throws Exception {
+		Generator[] gens = { new DefaultGenerator(), new ParallelGenerator() };
+		for (Generator gen : gens) {
+			Stream<UUID> stream = gen.parallelStream(1000000);
+			assertTrue(stream.isParallel());
+
+			Set<UUID> uniq = ConcurrentHashMap.newKeySet(1000000);
+			stream.forEach(uniq::add);
+			assertEquals(1000000, uniq.size());
+			assertEquals(1000000, gen.parallelStream(1000000).count());
+		}
+	}
+
+	@Test
+	public void testSplitLanes() throws Exception {
+		ParallelGenerator gen = new ParallelGenerator(4);
+		GeneratorSpliterator a = gen.spliterator(100000);
+		Spliterator<UUID> b = a.trySplit();
+		Spliterator<UUID> c = a.trySplit();
+		Spliterator<UUID> d = b.trySplit();
+
+		UUIDSet nodes = new UUIDSet(4);
+		List<Spliterator<UUID>> splits = Arrays.asList(a, b, c, d);
+		for (Spliterator<UUID> split : splits) {
+			split.tryAdvance(u -> nodes.add(0, u.node()));
+		}
+		assertEquals(4, nodes.size());
+		assertEquals(100000 - 4, a.estimateSize() + b.estimateSize() + c.estimateSize() + d.estimateSize());
+	}
+
+	@Test
+	public void testSink() throws Exception {
+		GeneratorSpliterator split = new DefaultGenerator().spliterator(1000);
+		final UUIDCollector collector = new UUIDCollector();
+		split.forEachRemainingBits(collector::add);
+		assertEquals(1000, collector.size());
+		assertFalse(split.tryAdvanceBits(collector::add));
+	}
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.Generator;
+import eu.msmit.uuid.v1.Node;
+import eu.msmit.uuid.v1.ParallelGenerator;
+import eu.msmit.uuid.v1.Partitioner;
+import eu.msmit.uuid.v1.TargetedGenerator;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestTargeted extends TestCase {
+
+	@Test
+	public void testMurmur3() throws Exception {
+		UUID uuid = UUID.fromString("6ba7b810-9dad-11d1-80b4-00c04fd430c8");
+		assertEquals(3, Partitioner.murmur3().partition(uuid, 12));
+		assertEquals(815, Partitioner.murmur3().partition(uuid, 1000));
+	}
+
+	@Test
+	public void testSampled() throws Exception {
+		Partitioner murmur3 = Partitioner.murmur3();
+		TargetedGenerator gen = new TargetedGenerator(murmur3, 12);
+		assertFalse(gen.isPlaced());
+
+		Set<UUID> seen = new HashSet<UUID>();
+		for (int i = 0; i < 12000; i++) {
+			int partition = i % 12;
+			UUID uuid = gen.next(partition);
+			assertEquals(partition, murmur3.partition(uuid, 12));
+			assertTrue(seen.add(uuid));
+		}
+
+		// An even demand uses nearly all generated UUIDs
+		assertTrue(gen.getGenerated() < 12000 + 12 * 512);
+
+		long[] msb = new long[5000];
+		long[] lsb = new long[msb.length];
+		gen.next(7, msb, lsb, 0, msb.length);
+		for (int i = 0; i < msb.length; i++) {
+			assertEquals(7, murmur3.partition(msb[i], lsb[i], 12));
+			assertTrue(seen.add(new UUID(msb[i], lsb[i])));
+		}
+		assertTrue(gen.getDiscarded() > 0);
+	}
+
+	@Test
+	public void testPlaced() throws Exception {
+		Partitioner clock = Partitioner.clockSequence();
+		TargetedGenerator gen = new TargetedGenerator(new Node(), clock, 8);
+		assertTrue(gen.isPlaced());
+
+		Set<UUID> seen = new HashSet<UUID>();
+		for (int p = 0; p < 8; p++) {
+			Generator lane = gen.forPartition(p);
+			for (int i = 0; i < 1000; i++) {
+				UUID uuid = lane.next();
+				assertEquals(p, clock.partition(uuid, 8));
+				assertTrue(seen.add(uuid));
+			}
+		}
+		assertEquals(0, gen.getGenerated());
+	}
+
+	@Test
+	public void testSampledSource() throws Exception {
+		Partitioner murmur3 = Partitioner.murmur3();
+		TargetedGenerator gen = new TargetedGenerator(new ParallelGenerator(), murmur3, 6);
+		assertFalse(gen.isPlaced());
+
+		for (int i = 0; i < 600; i++) {
+			assertEquals(i % 6, murmur3.partition(gen.next(i % 6), 6));
+		}
+	}
+
+	@Test
+	public void testUnreachable() throws Exception {
+		// A single clock sequence only reaches one partition
+		DefaultGenerator source = new DefaultGenerator();
+		Partitioner clock = Partitioner.clockSequence();
+		TargetedGenerator gen = new TargetedGenerator(source, clock, 4);
+		int reachable = clock.partition(source.next(), 4);
+
+		gen.next(reachable);
+		try {
+			gen.next((reachable + 1) % 4);
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testConcurrent() throws Exception {
+		TargetedGenerator gen = new TargetedGenerator(Partitioner.murmur3(), 16);
+		StressTester.Result result = new StressTester(4, 500, 100000).run(gen.forPartition(5));
+		System.out.println("TargetedGenerator: " + result);
+		assertEquals(0, result.getDuplicates());
+	}
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.BackfillGenerator;
+import eu.msmit.uuid.v1.UUIDBits;
+import eu.msmit.uuid.v1.index.TimeIndex;
+import eu.msmit.uuid.v1.index.TimeIndexBuilder;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestTimeIndex extends TestCase {
+	private Path dir_;
+
+	@Override
+	protected void setUp() throws Exception {
+		dir_ = Files.createTempDirectory("index");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		try (Stream<Path> files = Files.list(dir_)) {
+			files.forEach(path -> path.toFile().delete());
+		}
+		Files.delete(dir_);
+	}
+
+	private UUID[] write(Path path, int count) throws Exception {
+		BackfillGenerator gen = new BackfillGenerator();
+		Random random = new Random(11);
+		long base = System.currentTimeMillis() - 86400000L;
+		UUID[] uuids = new UUID[count];
+		try (OutputStream os = Files.newOutputStream(path);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+			for (int i = 0; i < count; i++) {
+				uuids[i] = gen.next(base + random.nextInt(100000));
+				out.writeLong(uuids[i].getMostSignificantBits());
+				out.writeLong(uuids[i].getLeastSignificantBits());
+			}
+		}
+		return uuids;
+	}
+
+	@Test
+	public void testQuery() throws Exception {
+		Path records = dir_.resolve("records");
+		Path index = dir_.resolve("index");
+		UUID[] uuids = write(records, 100000);
+
+		assertEquals(uuids.length, new TimeIndexBuilder(7000, 64).build(records, index));
+		try (Stream<Path> files = Files.list(dir_)) {
+			assertEquals(2, files.count());
+		}
+
+		try (TimeIndex idx = TimeIndex.open(index)) {
+			assertEquals(uuids.length, idx.size());
+			UUIDSet all = new UUIDSet(uuids.length);
+			for (long i = 0; i < idx.size(); i++) {
+				if (i > 0) {
+					assertTrue(idx.timestamp(i - 1) <= idx.timestamp(i));
+				}
+				assertTrue(all.add(idx.msb(i), idx.lsb(i)));
+			}
+
+			Random random = new Random(3);
+			for (int q = 0; q < 100; q++) {
+				long a = uuids[random.nextInt(uuids.length)].timestamp();
+				long b = uuids[random.nextInt(uuids.length)].timestamp() + random.nextInt(3);
+				long from = Math.min(a, b), to = Math.max(a, b);
+
+				int expected = 0;
+				for (UUID uuid : uuids) {
+					if (uuid.timestamp() >= from && uuid.timestamp() < to) {
+						expected++;
+					}
+				}
+
+				TimeIndex.Range range = idx.range(from, to);
+				assertEquals(expected, range.size());
+				long[] seen = new long[1];
+				range.forEach((msb, lsb) -> {
+					long ts = UUIDBits.timestamp(msb);
+					assertTrue(ts >= from && ts < to);
+					seen[0]++;
+				});
+				assertEquals(expected, seen[0]);
+
+				long bytes = 0;
+				for (ByteBuffer buf : range.buffers()) {
+					bytes += buf.remaining();
+				}
+				assertEquals(expected * 16L, bytes);
+			}
+
+			assertEquals(0, idx.range(0, idx.timestamp(0)).size());
+			assertEquals(idx.size(), idx.range(0, Long.MAX_VALUE).size());
+		}
+	}
+
+	@Test
+	public void testSingleRun() throws Exception {
+		Path records = dir_.resolve("records");
+		Path index = dir_.resolve("index");
+		UUID[] uuids = write(records, 1000);
+
+		new TimeIndexBuilder().build(records, index);
+		try (TimeIndex idx = TimeIndex.open(index)) {
+			assertEquals(uuids.length, idx.size());
+			assertEquals(idx.get(0), idx.range(idx.timestamp(0), idx.timestamp(0) + 1).get(0));
+		}
+	}
+
+	@Test
+	public void testRejects() throws Exception {
+		Path records = dir_.resolve("records");
+		Files.write(records, new byte[17]);
+		try {
+			new TimeIndexBuilder().build(records, dir_.resolve("index"));
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+
+		try {
+			TimeIndex.open(records).close();
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+}
@@ -15,12 +15,16 @@
  */
 package eu.msmit.uuid.v1.test;
 
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
 import org.junit.Test;
 
+import eu.msmit.uuid.v1.DefaultGenerator;
+import eu.msmit.uuid.v1.Type5Wrapper;
 import eu.msmit.uuid.v1.UUIDv1;
 import junit.framework.TestCase;
 
@@ -55,4 +59,17 @@ public class TestType5 extends TestCase {
 
 		assertEquals(testAmount, uniqCheck.size());
 	}
+
+	@Test
+	public void testDigest() throws Exception {
+		Type5Wrapper wrapper = new Type5Wrapper();
+		UUID uuidv1 = new DefaultGenerator().next();
+
+		byte[] hash = MessageDigest.getInstance("SHA-1").digest(wrapper.toBytes(uuidv1));
+		hash[6] = (byte) (hash[6] & 0x0f | 0x50);
+		hash[8] = (byte) (hash[8] & 0x3f | 0x80);
+		ByteBuffer buf = ByteBuffer.wrap(hash);
+
+		assertEquals(new UUID(buf.getLong(), buf.getLong()), wrapper.wrap(uuidv1));
+	}
 }
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import eu.msmit.uuid.v1.GeneratorMetrics;
+import eu.msmit.uuid.v1.ParallelGenerator;
+import eu.msmit.uuid.v1.Type7Generator;
+import junit.framework.TestCase;
+
+/**
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class TestType7 extends TestCase {
+
+	/**
+	 * Steps the clock a second back after 10000 calls
+	 */
+	private static class SteppingGenerator extends Type7Generator {
+		private long calls_;
+
+		@Override
+		protected long currentTimeMs() {
+			return super.currentTimeMs() - (++calls_ > 10000 ? 1000 : 0);
+		}
+	}
+
+	private static int compare(long msb1, long lsb1, long msb2, long lsb2) {
+		int c = Long.compareUnsigned(msb1, msb2);
+		return c != 0 ? c : Long.compareUnsigned(lsb1, lsb2);
+	}
+
+	@Test
+	public void testLayout() throws Exception {
+		long before = System.currentTimeMillis();
+		UUID uuid = new Type7Generator().next();
+		long after = System.currentTimeMillis();
+
+		assertEquals(7, uuid.version());
+		assertEquals(2, uuid.variant());
+
+		long millis = Type7Generator.millis(uuid.getMostSignificantBits());
+		assertTrue(millis >= before - 50 && millis <= after);
+	}
+
+	@Test
+	public void testMonotonicThroughStep() throws Exception {
+		SteppingGenerator gen = new SteppingGenerator();
+		GeneratorMetrics metrics = new GeneratorMetrics();
+		gen.setMetrics(metrics);
+
+		UUID prev = gen.next();
+		for (int i = 0; i < 50000; i++) {
+			UUID uuid = gen.next();
+			assertTrue(compare(prev.getMostSignificantBits(), prev.getLeastSignificantBits(),
+					uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) < 0);
+			prev = uuid;
+		}
+
+		assertEquals(1, metrics.getBackwardSkews());
+		assertEquals(0, metrics.getClockSequenceIncrements());
+		assertTrue(gen.getLead() > 0);
+	}
+
+	@Test
+	public void testBatch() throws Exception {
+		Type7Generator gen = new Type7Generator();
+		long[] msb = new long[10000];
+		long[] lsb = new long[msb.length];
+
+		gen.next(msb, lsb, 0, 5000);
+		gen.next(msb, lsb, 5000, 5000);
+
+		for (int i = 0; i < msb.length; i++) {
+			UUID uuid = new UUID(msb[i], lsb[i]);
+			assertEquals(7, uuid.version());
+			assertEquals(2, uuid.variant());
+			if (i > 0) {
+				assertTrue(compare(msb[i - 1], lsb[i - 1], msb[i], lsb[i]) < 0);
+			}
+		}
+
+		UUID next = gen.next();
+		assertTrue(compare(msb[msb.length - 1], lsb[lsb.length - 1], next.getMostSignificantBits(),
+				next.getLeastSignificantBits()) < 0);
+	}
+
+	@Test
+	public void testParallel() throws Exception {
+		ParallelGenerator gen = new ParallelGenerator(4, Type7Generator::new);
+		StressTester.Result result = new StressTester(4, 500, 200000).run(gen);
+		System.out.println("Type7Generator: " + result);
+		assertEquals(0, result.getDuplicates());
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Records UUIDs as primitive most and least significant bits, in the order
+ * they were added. Not thread safe, use one collector per thread.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class UUIDCollector {
+	private long[] msb_;
+	private long[] lsb_;
+	private int size_;
+
+	public UUIDCollector() {
+		this(1024);
+	}
+
+	public UUIDCollector(int capacity) {
+		msb_ = new long[capacity];
+		lsb_ = new long[capacity];
+	}
+
+	public void add(UUID uuid) {
+		add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	public void add(long msb, long lsb) {
+		if (size_ == msb_.length) {
+			int capacity = msb_.length << 1;
+			msb_ = Arrays.copyOf(msb_, capacity);
+			lsb_ = Arrays.copyOf(lsb_, capacity);
+		}
+		msb_[size_] = msb;
+		lsb_[size_] = lsb;
+		size_++;
+	}
+
+	public int size() {
+		return size_;
+	}
+
+	public long msb(int index) {
+		return msb_[index];
+	}
+
+	public long lsb(int index) {
+		return lsb_[index];
+	}
+}
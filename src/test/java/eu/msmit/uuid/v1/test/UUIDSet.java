@@ -0,0 +1,114 @@
+/**
+ * Copyright 2026 Marijn Smit (info@msmit.eu)
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.msmit.uuid.v1.test;
+
+import java.util.UUID;
+
+/**
+ * Open addressing hash set of UUIDs, stored as primitive pairs. Avoids the
+ * object overhead of a {@link java.util.HashSet} when checking millions of
+ * UUIDs for duplicates. Not thread safe.
+ * 
+ * @author Marijn Smit (info@msmit.eu)
+ * @since Oct 19, 2026
+ */
+public class UUIDSet {
+	private long[] msb_;
+	private long[] lsb_;
+	private boolean[] used_;
+	private int mask_;
+	private int size_;
+
+	/**
+	 * @param expected
+	 *            the expected number of elements, the set grows beyond
+	 */
+	public UUIDSet(int expected) {
+		int capacity = Integer.highestOneBit(Math.max(16, expected) * 2 - 1) << 1;
+		allocate(capacity);
+	}
+
+	public boolean add(UUID uuid) {
+		return add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * @return true when the UUID was not yet in the set
+	 */
+	public boolean add(long msb, long lsb) {
+		if (size_ >= (mask_ + 1) >>> 1) {
+			grow();
+		}
+
+		int slot = hash(msb, lsb) & mask_;
+		while (used_[slot]) {
+			if (msb_[slot] == msb && lsb_[slot] == lsb) {
+				return false;
+			}
+			slot = (slot + 1) & mask_;
+		}
+
+		used_[slot] = true;
+		msb_[slot] = msb;
+		lsb_[slot] = lsb;
+		size_++;
+		return true;
+	}
+
+	public boolean contains(long msb, long lsb) {
+		int slot = hash(msb, lsb) & mask_;
+		while (used_[slot]) {
+			if (msb_[slot] == msb && lsb_[slot] == lsb) {
+				return true;
+			}
+			slot = (slot + 1) & mask_;
+		}
+		return false;
+	}
+
+	public int size() {
+		return size_;
+	}
+
+	private void grow() {
+		long[] msb = msb_;
+		long[] lsb = lsb_;
+		boolean[] used = used_;
+
+		allocate(used.length << 1);
+		size_ = 0;
+		for (int i = 0; i < used.length; i++) {
+			if (used[i]) {
+				add(msb[i], lsb[i]);
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		msb_ = new long[capacity];
+		lsb_ = new long[capacity];
+		used_ = new boolean[capacity];
+		mask_ = capacity - 1;
+	}
+
+	private static int hash(long msb, long lsb) {
+		long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		return (int) h;
+	}
+}